@@ -80,6 +80,12 @@ public class KameleoonProviderTest {
 						null, Reason.STATIC.toString(), null, null));
 	}
 
+	private void setupValueResolverMock(Value defaultValue, Value expectedValue) {
+		when(resolverMock.resolveValue(FLAG_KEY, defaultValue, null))
+				.thenReturn(new ProviderEvaluation<Value>(expectedValue,
+						null, Reason.STATIC.toString(), null, null));
+	}
+
 	private <T> void assertResult(ProviderEvaluation<T> result, T expectedValue) {
 		assertEquals(expectedValue, result.getValue());
 		assertNull(result.getErrorCode());
@@ -151,7 +157,7 @@ public class KameleoonProviderTest {
 		// Arrange
 		Value defaultValue = new Value.String("default");
 		Value expectedValue = new Value.Integer(100);
-		setupResolverMock(defaultValue, expectedValue);
+		setupValueResolverMock(defaultValue, expectedValue);
 
 		// Act
 		ProviderEvaluation<Value> result =
@@ -168,7 +174,7 @@ public class KameleoonProviderTest {
 		// Arrange
 		Value defaultValue = new Value.String("default");
 		Value expectedValue = new Value.String("default");
-		setupResolverMock(defaultValue, expectedValue);
+		setupValueResolverMock(defaultValue, expectedValue);
 
 		// Act
 		ProviderEvaluation<Value> result =
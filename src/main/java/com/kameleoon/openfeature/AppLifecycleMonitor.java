@@ -0,0 +1,135 @@
+package com.kameleoon.openfeature;
+
+import android.app.Activity;
+import android.app.ActivityManager;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * AppLifecycleMonitor observes foreground and background transitions of the application process.
+ * The application is considered to be in background when its UI is hidden
+ * ({@link ComponentCallbacks2#TRIM_MEMORY_UI_HIDDEN}) and in foreground again when any activity is started.
+ */
+final class AppLifecycleMonitor implements Application.ActivityLifecycleCallbacks, ComponentCallbacks2 {
+
+	/**
+	 * Listener of the application lifecycle transitions. Methods are called on the main thread.
+	 */
+	interface Listener {
+		void onForeground();
+
+		void onBackground();
+	}
+
+	private final Application application;
+	private final Listener listener;
+	private volatile boolean inBackground;
+
+	private AppLifecycleMonitor(Application application, Listener listener) {
+		this.application = application;
+		this.listener = listener;
+		this.inBackground = !isProcessVisible();
+	}
+
+	/**
+	 * Starts observing the application lifecycle.
+	 *
+	 * @return the monitor or {@code null} if the application can't be obtained from the context
+	 */
+	@Nullable
+	static AppLifecycleMonitor register(@Nullable Context context, Listener listener) {
+		Context appContext = context != null ? context.getApplicationContext() : null;
+		if (!(appContext instanceof Application)) {
+			return null;
+		}
+		AppLifecycleMonitor monitor = new AppLifecycleMonitor((Application) appContext, listener);
+		monitor.application.registerActivityLifecycleCallbacks(monitor);
+		monitor.application.registerComponentCallbacks(monitor);
+		if (monitor.inBackground) {
+			listener.onBackground();
+		}
+		return monitor;
+	}
+
+	/**
+	 * Stops observing the application lifecycle.
+	 */
+	void unregister() {
+		application.unregisterActivityLifecycleCallbacks(this);
+		application.unregisterComponentCallbacks(this);
+	}
+
+	boolean isInBackground() {
+		return inBackground;
+	}
+
+	private static boolean isProcessVisible() {
+		ActivityManager.RunningAppProcessInfo processInfo = new ActivityManager.RunningAppProcessInfo();
+		ActivityManager.getMyMemoryState(processInfo);
+		return processInfo.importance <= ActivityManager.RunningAppProcessInfo.IMPORTANCE_VISIBLE;
+	}
+
+	private void moveToForeground() {
+		if (inBackground) {
+			inBackground = false;
+			listener.onForeground();
+		}
+	}
+
+	private void moveToBackground() {
+		if (!inBackground) {
+			inBackground = true;
+			listener.onBackground();
+		}
+	}
+
+	@Override
+	public void onTrimMemory(int level) {
+		if (level == TRIM_MEMORY_UI_HIDDEN) {
+			moveToBackground();
+		}
+	}
+
+	@Override
+	public void onActivityStarted(@NonNull Activity activity) {
+		moveToForeground();
+	}
+
+	@Override
+	public void onActivityResumed(@NonNull Activity activity) {
+		moveToForeground();
+	}
+
+	@Override
+	public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+	}
+
+	@Override
+	public void onActivityPaused(@NonNull Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(@NonNull Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(@NonNull Activity activity) {
+	}
+
+	@Override
+	public void onConfigurationChanged(@NonNull Configuration newConfig) {
+	}
+
+	@Override
+	public void onLowMemory() {
+	}
+}
@@ -0,0 +1,137 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import kotlin.Unit;
+import kotlinx.coroutines.CompletableDeferred;
+import kotlinx.coroutines.CompletableDeferredKt;
+import kotlinx.coroutines.Deferred;
+import kotlinx.coroutines.DisposableHandle;
+import kotlinx.coroutines.Job;
+
+/**
+ * AsyncEvaluator runs evaluations off the caller's thread. Concurrent requests for the same flag, variable key
+ * and default value share a single in-flight evaluation.
+ */
+final class AsyncEvaluator {
+
+	/**
+	 * Evaluation which is run on the executor.
+	 */
+	@FunctionalInterface
+	interface Evaluation<T> {
+		ProviderEvaluation<T> evaluate();
+	}
+
+	private final Executor executor;
+	private final ConcurrentHashMap<FlightKey, CompletableDeferred<?>> inFlight = new ConcurrentHashMap<>();
+
+	AsyncEvaluator(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Submits the evaluation or joins the in-flight one with the same parameters.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Deferred<ProviderEvaluation<T>> submit(String flagKey, String variableKey, Object defaultValue,
+			Evaluation<T> evaluation) {
+		FlightKey key = new FlightKey(flagKey, variableKey, defaultValue);
+		CompletableDeferred<ProviderEvaluation<T>> deferred = CompletableDeferredKt.CompletableDeferred((Job) null);
+		CompletableDeferred<?> existing = inFlight.putIfAbsent(key, deferred);
+		if (existing != null) {
+			return (Deferred<ProviderEvaluation<T>>) existing;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					deferred.complete(evaluation.evaluate());
+				} catch (Throwable throwable) {
+					deferred.completeExceptionally(throwable);
+				} finally {
+					inFlight.remove(key, deferred);
+				}
+			});
+		} catch (RejectedExecutionException exception) {
+			inFlight.remove(key, deferred);
+			deferred.completeExceptionally(exception);
+		}
+		return deferred;
+	}
+
+	/**
+	 * Waits for the deferred evaluation at most the timeout. The evaluation goes on if the timeout elapses.
+	 *
+	 * @return the evaluation or {@code null} if it isn't completed in time
+	 * @throws InterruptedException if the waiting thread is interrupted
+	 */
+	static <T> ProviderEvaluation<T> await(Deferred<ProviderEvaluation<T>> deferred, long timeoutNanos)
+			throws InterruptedException {
+		if (!deferred.isCompleted()) {
+			CountDownLatch completed = new CountDownLatch(1);
+			DisposableHandle handle = deferred.invokeOnCompletion(cause -> {
+				completed.countDown();
+				return Unit.INSTANCE;
+			});
+			try {
+				if (!completed.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+					return null;
+				}
+			} finally {
+				handle.dispose();
+			}
+		}
+		Throwable failure = deferred.getCompletionExceptionOrNull();
+		if (failure != null) {
+			throw new IllegalStateException("Evaluation failed", failure);
+		}
+		return deferred.getCompleted();
+	}
+
+	int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 * Identifies evaluations which produce the same result.
+	 */
+	private static final class FlightKey {
+		private final String flagKey;
+		private final String variableKey;
+		private final Object defaultValue;
+		private final int hash;
+
+		FlightKey(String flagKey, String variableKey, Object defaultValue) {
+			this.flagKey = flagKey;
+			this.variableKey = variableKey;
+			this.defaultValue = defaultValue;
+			int h = flagKey.hashCode();
+			h = 31 * h + (variableKey != null ? variableKey.hashCode() : 0);
+			this.hash = 31 * h + (defaultValue != null ? defaultValue.hashCode() : 0);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof FlightKey)) {
+				return false;
+			}
+			FlightKey other = (FlightKey) o;
+			return hash == other.hash
+					&& flagKey.equals(other.flagKey)
+					&& (variableKey == null ? other.variableKey == null : variableKey.equals(other.variableKey))
+					&& (defaultValue == null ? other.defaultValue == null : defaultValue.equals(other.defaultValue));
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
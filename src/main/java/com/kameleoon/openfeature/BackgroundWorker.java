@@ -0,0 +1,119 @@
+package com.kameleoon.openfeature;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * BackgroundWorker runs the provider background work on a single thread. The worker can be paused: tasks
+ * submitted while paused are postponed and executed on resume. Postponed tasks with the same key are
+ * coalesced, so only the latest one is executed.
+ */
+final class BackgroundWorker {
+
+	private static final String THREAD_NAME = "Kameleoon-OpenFeature";
+
+	private final Executor executor;
+	private final Object lock = new Object();
+	private final Map<Object, Runnable> postponed = new LinkedHashMap<>();
+	private boolean paused;
+	private boolean stopped;
+
+	BackgroundWorker() {
+		this(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	BackgroundWorker(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Submits a task. The task itself is used as a coalescing key.
+	 */
+	void execute(Runnable task) {
+		execute(task, task);
+	}
+
+	/**
+	 * Submits a task. While the worker is paused, a postponed task with the same key is replaced.
+	 */
+	void execute(Object key, Runnable task) {
+		synchronized (lock) {
+			if (stopped) {
+				return;
+			}
+			if (paused) {
+				postponed.remove(key);
+				postponed.put(key, task);
+				return;
+			}
+		}
+		submit(task);
+	}
+
+	/**
+	 * Postpones all further tasks until {@link #resume()} is called.
+	 */
+	void pause() {
+		synchronized (lock) {
+			paused = true;
+		}
+	}
+
+	/**
+	 * Executes postponed tasks in submission order and stops postponing new ones.
+	 */
+	void resume() {
+		List<Runnable> tasks;
+		synchronized (lock) {
+			if (!paused) {
+				return;
+			}
+			paused = false;
+			if (stopped || postponed.isEmpty()) {
+				return;
+			}
+			tasks = new ArrayList<>(postponed.values());
+			postponed.clear();
+		}
+		for (Runnable task : tasks) {
+			submit(task);
+		}
+	}
+
+	boolean isPaused() {
+		synchronized (lock) {
+			return paused;
+		}
+	}
+
+	/**
+	 * Drops postponed tasks and stops the worker thread. Tasks submitted afterwards are ignored.
+	 */
+	void shutdown() {
+		synchronized (lock) {
+			stopped = true;
+			postponed.clear();
+		}
+		if (executor instanceof ExecutorService) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+
+	private void submit(Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException ignored) {
+			// The worker has been shut down concurrently
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.KameleoonException;
+import com.kameleoon.types.Variable;
+import com.kameleoon.types.Variation;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * BundledFeatureClient serves the variations of a configuration snapshot shipped with the application, so
+ * flags are evaluated before the Kameleoon client has fetched its configuration. The snapshot is a JSON object:
+ * <pre>
+ * {
+ *   "featureFlags": {
+ *     "flagKey": {
+ *       "variation": "on",
+ *       "variables": { "enabled": true, "count": 5, "ratio": 0.5, "title": "Hello", "layout": { "columns": 2 } }
+ *     }
+ *   }
+ * }
+ * </pre>
+ * Integral numbers are served as integers, other numbers as doubles, and objects and arrays as JSON values,
+ * like the Kameleoon client does.
+ */
+final class BundledFeatureClient implements FeatureClient {
+
+	private static final String FEATURE_FLAGS = "featureFlags";
+	private static final String VARIATION = "variation";
+	private static final String VARIABLES = "variables";
+
+	private final Map<String, Variation> variations;
+
+	BundledFeatureClient(Map<String, Variation> variations) {
+		this.variations = new HashMap<>(variations);
+	}
+
+	/**
+	 * Reads the configuration snapshot.
+	 *
+	 * @throws IOException if the snapshot isn't valid
+	 */
+	static BundledFeatureClient read(Reader input) throws IOException {
+		JsonObject flags;
+		try (JsonReader reader = Json.createReader(input)) {
+			flags = reader.readObject().getJsonObject(FEATURE_FLAGS);
+		} catch (JsonException | ClassCastException exception) {
+			throw new IOException("Invalid bundled configuration", exception);
+		}
+		if (flags == null) {
+			throw new IOException("Bundled configuration has no " + FEATURE_FLAGS);
+		}
+		Map<String, Variation> variations = new HashMap<>();
+		for (Map.Entry<String, JsonValue> flag : flags.entrySet()) {
+			if (!(flag.getValue() instanceof JsonObject)) {
+				throw new IOException("Invalid bundled flag " + flag.getKey());
+			}
+			variations.put(flag.getKey(), readVariation((JsonObject) flag.getValue()));
+		}
+		return new BundledFeatureClient(variations);
+	}
+
+	private static Variation readVariation(JsonObject json) {
+		JsonObject variablesJson = json.getJsonObject(VARIABLES);
+		Map<String, Variable> variables;
+		if (variablesJson == null) {
+			variables = Collections.emptyMap();
+		} else {
+			// The first variable is used when the variable key isn't provided, so the order is kept
+			variables = new LinkedHashMap<>();
+			for (Map.Entry<String, JsonValue> variable : variablesJson.entrySet()) {
+				variables.put(variable.getKey(), readVariable(variable.getKey(), variable.getValue()));
+			}
+		}
+		return new Variation(json.getString(VARIATION, null), -1, -1, variables);
+	}
+
+	private static Variable readVariable(String key, JsonValue json) {
+		switch (json.getValueType()) {
+			case TRUE:
+				return new Variable(key, "BOOLEAN", true);
+			case FALSE:
+				return new Variable(key, "BOOLEAN", false);
+			case NUMBER:
+				JsonNumber number = (JsonNumber) json;
+				return new Variable(key, "NUMBER", number.isIntegral() ? number.intValue() : number.doubleValue());
+			case STRING:
+				return new Variable(key, "STRING", ((JsonString) json).getString());
+			case NULL:
+				return new Variable(key, "STRING", null);
+			default:
+				return new Variable(key, "JSON", json);
+		}
+	}
+
+	@Override
+	public Variation getVariation(String flagKey) throws KameleoonException {
+		Variation variation = variations.get(flagKey);
+		if (variation == null) {
+			throw new KameleoonException.FeatureNotFound("Feature flag '" + flagKey + "' isn't bundled");
+		}
+		return variation;
+	}
+
+	/**
+	 * The bundled configuration is available right away.
+	 */
+	@Override
+	public boolean isReady() {
+		return true;
+	}
+}
@@ -0,0 +1,81 @@
+package com.kameleoon.openfeature;
+
+/**
+ * CircuitBreaker stops resolving a flag after a number of consecutive unexpected failures. While the circuit
+ * is open, the last failure is returned instead. After the cooldown a single probe is let through:
+ * its success closes the circuit, its failure opens it again.
+ * <p>
+ * The state is read without locking while the circuit is closed and has no failures, so the healthy flags
+ * don't take the monitor.
+ */
+final class CircuitBreaker {
+
+	private final int failureThreshold;
+	private final long cooldownNanos;
+	private volatile CircuitState state = CircuitState.CLOSED;
+	private volatile int consecutiveFailures;
+	private long openedAt;
+	private boolean probeInFlight;
+	private ResolvedVariable lastFailure;
+
+	CircuitBreaker(int failureThreshold, long cooldownNanos) {
+		this.failureThreshold = failureThreshold;
+		this.cooldownNanos = cooldownNanos;
+	}
+
+	/**
+	 * Checks whether the flag can be resolved.
+	 *
+	 * @return {@code null} if the resolution is allowed, otherwise the failure to return instead
+	 */
+	ResolvedVariable acquire(long now) {
+		return state == CircuitState.CLOSED ? null : acquireSlow(now);
+	}
+
+	private synchronized ResolvedVariable acquireSlow(long now) {
+		switch (state) {
+			case OPEN:
+				if (now - openedAt < cooldownNanos) {
+					return lastFailure;
+				}
+				state = CircuitState.HALF_OPEN;
+				probeInFlight = true;
+				return null;
+			case HALF_OPEN:
+				if (probeInFlight) {
+					return lastFailure;
+				}
+				probeInFlight = true;
+				return null;
+			default:
+				return null;
+		}
+	}
+
+	void onSuccess() {
+		if (state != CircuitState.CLOSED || consecutiveFailures != 0) {
+			reset();
+		}
+	}
+
+	private synchronized void reset() {
+		state = CircuitState.CLOSED;
+		consecutiveFailures = 0;
+		probeInFlight = false;
+		lastFailure = null;
+	}
+
+	synchronized void onFailure(ResolvedVariable failure, long now) {
+		lastFailure = failure;
+		probeInFlight = false;
+		consecutiveFailures++;
+		if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = CircuitState.OPEN;
+			openedAt = now;
+		}
+	}
+
+	CircuitState getState() {
+		return state;
+	}
+}
@@ -0,0 +1,51 @@
+package com.kameleoon.openfeature;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CircuitBreakers keeps a {@link CircuitBreaker} per flag key. A breaker is created on the first failure of
+ * the flag, so flags which never fail have none.
+ */
+final class CircuitBreakers {
+
+	private final int failureThreshold;
+	private final long cooldownNanos;
+	private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+	CircuitBreakers(int failureThreshold, long cooldownNanos) {
+		this.failureThreshold = failureThreshold;
+		this.cooldownNanos = cooldownNanos;
+	}
+
+	/**
+	 * Returns the breaker of the flag or {@code null} if the flag has never failed.
+	 */
+	CircuitBreaker get(String flagKey) {
+		return breakers.get(flagKey);
+	}
+
+	/**
+	 * Returns the breaker of the flag, created if needed.
+	 */
+	CircuitBreaker getOrCreate(String flagKey) {
+		CircuitBreaker breaker = breakers.get(flagKey);
+		if (breaker == null) {
+			CircuitBreaker created = new CircuitBreaker(failureThreshold, cooldownNanos);
+			breaker = breakers.putIfAbsent(flagKey, created);
+			if (breaker == null) {
+				breaker = created;
+			}
+		}
+		return breaker;
+	}
+
+	Map<String, CircuitState> getStates() {
+		Map<String, CircuitState> states = new HashMap<>();
+		for (Map.Entry<String, CircuitBreaker> entry : breakers.entrySet()) {
+			states.put(entry.getKey(), entry.getValue().getState());
+		}
+		return states;
+	}
+}
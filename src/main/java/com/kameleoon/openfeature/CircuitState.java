@@ -0,0 +1,19 @@
+package com.kameleoon.openfeature;
+
+/**
+ * CircuitState is a state of the per-flag circuit breaker of {@link KameleoonProvider}.
+ */
+public enum CircuitState {
+	/**
+	 * Evaluations of the flag are resolved normally.
+	 */
+	CLOSED,
+	/**
+	 * The flag failed repeatedly, evaluations return the default value without resolution until the cooldown ends.
+	 */
+	OPEN,
+	/**
+	 * The cooldown has ended, a single probe evaluation decides whether the circuit is closed or opened again.
+	 */
+	HALF_OPEN
+}
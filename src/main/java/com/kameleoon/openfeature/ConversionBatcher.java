@@ -0,0 +1,52 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.data.Conversion;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ConversionBatcher aggregates conversions per goal until they are drained: a goal reached several times is
+ * drained as one conversion with the total revenue. Goals are drained in the order they were first reached.
+ */
+final class ConversionBatcher {
+
+	private final Object lock = new Object();
+	private final Map<Integer, double[]> revenues = new LinkedHashMap<>();
+	private int count;
+
+	/**
+	 * Adds the conversion to the batch.
+	 *
+	 * @return number of conversions in the batch, {@code 1} when the conversion has started a new batch
+	 */
+	int add(Conversion conversion) {
+		synchronized (lock) {
+			double[] revenue = revenues.get(conversion.getGoalId());
+			if (revenue == null) {
+				revenue = new double[1];
+				revenues.put(conversion.getGoalId(), revenue);
+			}
+			revenue[0] += conversion.getRevenue();
+			return ++count;
+		}
+	}
+
+	/**
+	 * Removes the batch.
+	 *
+	 * @return one conversion per goal, empty if there are no conversions
+	 */
+	List<Conversion> drain() {
+		synchronized (lock) {
+			List<Conversion> conversions = new ArrayList<>(revenues.size());
+			for (Map.Entry<Integer, double[]> revenue : revenues.entrySet()) {
+				conversions.add(new Conversion(revenue.getKey(), (float) revenue.getValue()[0], false));
+			}
+			revenues.clear();
+			count = 0;
+			return conversions;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.kameleoon.openfeature;
+
+import java.util.Map;
+
+/**
+ * ConverterTable is an immutable open-addressed table of value converters by context key. Its size is the
+ * smallest power of two for which the keys don't collide, so a lookup is a mask of the hash cached in the
+ * key string, one array read and one comparison.
+ */
+final class ConverterTable {
+
+	private static final int MAX_SIZE = 1 << 12;
+
+	private final String[] keys;
+	private final ValueConverter[] converters;
+	private final int mask;
+
+	ConverterTable(Map<String, ValueConverter> entries) {
+		int size = Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1;
+		while (size < MAX_SIZE && !isCollisionFree(entries, size - 1)) {
+			size <<= 1;
+		}
+		this.keys = new String[size];
+		this.converters = new ValueConverter[size];
+		this.mask = size - 1;
+		for (Map.Entry<String, ValueConverter> entry : entries.entrySet()) {
+			// Keys with equal hashes, which can't be separated by the size, are probed linearly
+			int index = entry.getKey().hashCode() & mask;
+			while (keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = entry.getKey();
+			converters[index] = entry.getValue();
+		}
+	}
+
+	private static boolean isCollisionFree(Map<String, ValueConverter> entries, int mask) {
+		boolean[] used = new boolean[mask + 1];
+		for (String key : entries.keySet()) {
+			int index = key.hashCode() & mask;
+			if (used[index]) {
+				return false;
+			}
+			used[index] = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Get the converter of the key.
+	 *
+	 * @return converter, {@code null} if no converter is registered for the key
+	 */
+	ValueConverter get(String key) {
+		int index = key.hashCode() & mask;
+		String candidate;
+		while ((candidate = keys[index]) != null) {
+			if (candidate == key || candidate.equals(key)) {
+				return converters[index];
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+}
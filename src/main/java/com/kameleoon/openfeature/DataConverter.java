@@ -1,11 +1,24 @@
 package com.kameleoon.openfeature;
 
+import androidx.annotation.NonNull;
+import com.kameleoon.data.Browser;
+import com.kameleoon.data.BrowserType;
 import com.kameleoon.data.Conversion;
 import com.kameleoon.data.CustomData;
 import com.kameleoon.data.Data;
+import com.kameleoon.data.Device;
+import com.kameleoon.data.DeviceType;
+import com.kameleoon.data.Geolocation;
+import com.kameleoon.data.OperatingSystem;
+import com.kameleoon.data.OperatingSystemType;
+import com.kameleoon.data.PageView;
+import com.kameleoon.data.UniqueIdentifier;
+import com.kameleoon.openfeature.dto.types.BrowserDataType;
 import com.kameleoon.openfeature.dto.types.ConversionType;
 import com.kameleoon.openfeature.dto.types.CustomDataType;
 import com.kameleoon.openfeature.dto.types.DataType;
+import com.kameleoon.openfeature.dto.types.GeolocationType;
+import com.kameleoon.openfeature.dto.types.PageViewType;
 import dev.openfeature.sdk.EvaluationContext;
 import dev.openfeature.sdk.Value;
 
@@ -18,19 +31,93 @@ import java.util.*;
 public class DataConverter {
 
 	/**
-	 * Dictionary which contains conversion methods by keys
+	 * Converters of the built-in data types; the keys reserved by the provider have no converter.
 	 */
-	private static final Map<String, ValueToDataFunction> conversionMethods = new HashMap<String, ValueToDataFunction>() {
-		{
-			put(DataType.CONVERSION.getValue(), DataConverter::makeConversion);
-			put(DataType.CUSTOM_DATA.getValue(), DataConverter::makeCustomData);
-		}
-	};
+	private static final Map<String, ValueConverter> builtInConverters = makeBuiltInConverters();
 
+	private static final Object registrationLock = new Object();
+	private static final Map<String, ValueConverter> registeredConverters = new HashMap<>(builtInConverters);
+	private static volatile ConverterTable converters = new ConverterTable(registeredConverters);
 
 	private DataConverter() {
 	}
 
+	private static Map<String, ValueConverter> makeBuiltInConverters() {
+		Map<String, ValueConverter> converters = new HashMap<>();
+		for (DataType dataType : DataType.values()) {
+			ValueConverter converter = makeBuiltInConverter(dataType);
+			if (converter != null) {
+				converters.put(dataType.getValue(), converter);
+			}
+		}
+		return converters;
+	}
+
+	private static ValueConverter makeBuiltInConverter(DataType dataType) {
+		switch (dataType) {
+			case CONVERSION:
+				return DataConverter::makeConversion;
+			case CUSTOM_DATA:
+				return DataConverter::makeCustomData;
+			case DEVICE:
+				return DataConverter::makeDevice;
+			case BROWSER:
+				return DataConverter::makeBrowser;
+			case PAGE_VIEW:
+				return DataConverter::makePageView;
+			case GEOLOCATION:
+				return DataConverter::makeGeolocation;
+			case OPERATING_SYSTEM:
+				return DataConverter::makeOperatingSystem;
+			case UNIQUE_IDENTIFIER:
+				return DataConverter::makeUniqueIdentifier;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Registers a converter for the values of a context key, so other Kameleoon data can be passed in the
+	 * evaluation context. A converter registered for the key of a {@link DataType} replaces the built-in one.
+	 *
+	 * @param key       key of the context entry
+	 * @param converter converter of the entry values
+	 */
+	public static void registerConverter(@NonNull String key, @NonNull ValueConverter converter) {
+		if (DataType.VARIABLE_KEY.getValue().equals(key)) {
+			throw new IllegalArgumentException("Key '" + key + "' is reserved by the provider");
+		}
+		synchronized (registrationLock) {
+			registeredConverters.put(key, converter);
+			converters = new ConverterTable(registeredConverters);
+		}
+	}
+
+	/**
+	 * Removes the converter registered for a context key. The built-in converter of a {@link DataType} key
+	 * is restored.
+	 *
+	 * @param key key of the context entry
+	 */
+	public static void unregisterConverter(@NonNull String key) {
+		synchronized (registrationLock) {
+			ValueConverter builtIn = builtInConverters.get(key);
+			if (builtIn != null) {
+				registeredConverters.put(key, builtIn);
+			} else {
+				registeredConverters.remove(key);
+			}
+			converters = new ConverterTable(registeredConverters);
+		}
+	}
+
+	/**
+	 * Whether the values of the context key are converted to Kameleoon data.
+	 */
+	static boolean hasConverter(String key) {
+		return converters.get(key) != null;
+	}
+
 	/**
 	 * The method for converting EvaluationContext data to Kameleoon SDK data types.
 	 */
@@ -40,14 +127,21 @@ public class DataConverter {
 			return Collections.emptyList();
 		}
 
+		ConverterTable table = converters;
 		List<Data> data = new ArrayList<>(contextMap.size());
 		for (Map.Entry<String, Value> entry : contextMap.entrySet()) {
+			ValueConverter converter = table.get(entry.getKey());
 			Value value = entry.getValue();
+			if (converter == null || value == null) {
+				continue;
+			}
 			List<Value> values = value instanceof Value.List ? value.asList() : Collections.singletonList(value);
-			ValueToDataFunction conversionMethod = conversionMethods.get(entry.getKey());
-			if (conversionMethod != null && values != null) {
+			if (values != null) {
 				for (Value val : values) {
-					data.add(conversionMethod.apply(val));
+					Data converted = val != null ? converter.toKameleoon(val) : null;
+					if (converted != null) {
+						data.add(converted);
+					}
 				}
 			}
 		}
@@ -201,6 +295,121 @@ public class DataConverter {
 		return new Conversion(goalId, getFloatFromValue(structConversion.get(ConversionType.REVENUE.getValue())), false);
 	}
 
+	/**
+	 * Make Kameleoon {@link Device} from {@link Value}
+	 */
+	private static Device makeDevice(Value value) {
+		DeviceType type = getEnumFromValue(DeviceType.class, value);
+		return type != null ? new Device(type) : null;
+	}
+
+	/**
+	 * Make Kameleoon {@link Browser} from {@link Value}
+	 */
+	private static Browser makeBrowser(Value value) {
+		Map<String, Value> structBrowser = value.asStructure();
+		if (structBrowser == null) {
+			return null;
+		}
+		BrowserType type = getEnumFromValue(BrowserType.class, structBrowser.get(BrowserDataType.TYPE.getValue()));
+		if (type == null) {
+			return null;
+		}
+		Value versionValue = structBrowser.get(BrowserDataType.VERSION.getValue());
+		return new Browser(type, versionValue != null ? getFloatFromValue(versionValue) : Float.NaN);
+	}
+
+	/**
+	 * Make Kameleoon {@link PageView} from {@link Value}
+	 */
+	private static PageView makePageView(Value value) {
+		Map<String, Value> structPageView = value.asStructure();
+		if (structPageView == null) {
+			return null;
+		}
+		String url = getStringFromValue(structPageView.get(PageViewType.URL.getValue()));
+		if (url == null) {
+			return null;
+		}
+		String title = getStringFromValue(structPageView.get(PageViewType.TITLE.getValue()));
+		List<Integer> referrers = null;
+		Value referrersValue = structPageView.get(PageViewType.REFERRERS.getValue());
+		if (referrersValue != null) {
+			List<Value> values = referrersValue instanceof Value.List
+					? referrersValue.asList()
+					: Collections.singletonList(referrersValue);
+			referrers = new ArrayList<>(values.size());
+			for (Value val : values) {
+				Integer referrer = val.asInteger();
+				if (referrer != null) {
+					referrers.add(referrer);
+				}
+			}
+		}
+		return new PageView(url, title != null ? title : "", referrers);
+	}
+
+	/**
+	 * Make Kameleoon {@link Geolocation} from {@link Value}
+	 */
+	private static Geolocation makeGeolocation(Value value) {
+		Map<String, Value> structGeolocation = value.asStructure();
+		if (structGeolocation == null) {
+			return null;
+		}
+		String country = getStringFromValue(structGeolocation.get(GeolocationType.COUNTRY.getValue()));
+		if (country == null) {
+			return null;
+		}
+		return new Geolocation(country,
+				getStringFromValue(structGeolocation.get(GeolocationType.REGION.getValue())),
+				getStringFromValue(structGeolocation.get(GeolocationType.CITY.getValue())),
+				getStringFromValue(structGeolocation.get(GeolocationType.POSTAL_CODE.getValue())),
+				getDoubleFromValue(structGeolocation.get(GeolocationType.LATITUDE.getValue())),
+				getDoubleFromValue(structGeolocation.get(GeolocationType.LONGITUDE.getValue())));
+	}
+
+	/**
+	 * Make Kameleoon {@link OperatingSystem} from {@link Value}
+	 */
+	private static OperatingSystem makeOperatingSystem(Value value) {
+		OperatingSystemType type = getEnumFromValue(OperatingSystemType.class, value);
+		return type != null ? new OperatingSystem(type) : null;
+	}
+
+	/**
+	 * Make Kameleoon {@link UniqueIdentifier} from {@link Value}
+	 */
+	private static UniqueIdentifier makeUniqueIdentifier(Value value) {
+		Boolean unique = value.asBoolean();
+		return unique != null ? new UniqueIdentifier(unique) : null;
+	}
+
+	private static <E extends Enum<E>> E getEnumFromValue(Class<E> type, Value value) {
+		String name = getStringFromValue(value);
+		if (name == null) {
+			return null;
+		}
+		try {
+			return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException exception) {
+			return null;
+		}
+	}
+
+	private static String getStringFromValue(Value value) {
+		return value != null ? value.asString() : null;
+	}
+
+	private static double getDoubleFromValue(Value value) {
+		if (value instanceof Value.Double) {
+			return ((Value.Double) value).getDouble();
+		} else if (value instanceof Value.Integer) {
+			return ((Value.Integer) value).getInteger();
+		}
+		return Double.NaN;
+	}
+
 	private static float getFloatFromValue(Value value) {
 		if (value == null) {
 			return 0.0f;
@@ -213,9 +422,4 @@ public class DataConverter {
 		}
 		return floatValue;
 	}
-
-	@FunctionalInterface
-	private interface ValueToDataFunction {
-		Data apply(Value value);
-	}
 }
@@ -0,0 +1,105 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import com.kameleoon.openfeature.dto.types.DataType;
+
+/**
+ * DataDimension identifies a kind of visitor data a flag's targeting depends on, such as one custom data
+ * index or one goal. Dependencies are declared with
+ * {@link KameleoonProviderConfig.Builder#dependsOn(String, DataDimension...)}.
+ */
+public final class DataDimension {
+
+	private final String key;
+	private final Integer id;
+
+	private DataDimension(String key, Integer id) {
+		this.key = key;
+		this.id = id;
+	}
+
+	/**
+	 * Makes the dimension of the custom data with the index.
+	 *
+	 * @param index index of the custom data
+	 * @return data dimension
+	 */
+	@NonNull
+	public static DataDimension customData(int index) {
+		return new DataDimension(DataType.CUSTOM_DATA.getValue(), index);
+	}
+
+	/**
+	 * Makes the dimension of the conversions of the goal.
+	 *
+	 * @param goalId ID of the goal
+	 * @return data dimension
+	 */
+	@NonNull
+	public static DataDimension goal(int goalId) {
+		return new DataDimension(DataType.CONVERSION.getValue(), goalId);
+	}
+
+	/**
+	 * Makes the dimension of all the data of the type, e.g. {@link DataType#DEVICE} or every custom data for
+	 * {@link DataType#CUSTOM_DATA}.
+	 *
+	 * @param dataType type of the data
+	 * @return data dimension
+	 */
+	@NonNull
+	public static DataDimension of(@NonNull DataType dataType) {
+		return of(dataType.getValue());
+	}
+
+	/**
+	 * Makes the dimension of the data passed with the context key, e.g. a key with a converter registered
+	 * with {@link DataConverter#registerConverter(String, ValueConverter)}.
+	 *
+	 * @param contextKey key of the context entry
+	 * @return data dimension
+	 */
+	@NonNull
+	public static DataDimension of(@NonNull String contextKey) {
+		if (DataType.VARIABLE_KEY.getValue().equals(contextKey)) {
+			throw new IllegalArgumentException("Key '" + contextKey + "' isn't visitor data");
+		}
+		return new DataDimension(contextKey, null);
+	}
+
+	String getKey() {
+		return key;
+	}
+
+	/**
+	 * Get the ID of the data within its type.
+	 *
+	 * @return the custom data index or the goal ID, {@code null} for all the data of the type
+	 */
+	Integer getId() {
+		return id;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof DataDimension)) {
+			return false;
+		}
+		DataDimension dimension = (DataDimension) other;
+		return key.equals(dimension.key) && (id != null ? id.equals(dimension.id) : dimension.id == null);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * key.hashCode() + (id != null ? id : 0);
+	}
+
+	@NonNull
+	@Override
+	public String toString() {
+		return id != null ? key + "[" + id + "]" : key;
+	}
+}
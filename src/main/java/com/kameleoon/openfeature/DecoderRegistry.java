@@ -0,0 +1,23 @@
+package com.kameleoon.openfeature;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DecoderRegistry keeps {@link JsonDecoder} instances by user type.
+ */
+final class DecoderRegistry {
+
+	private final ConcurrentHashMap<Class<?>, JsonDecoder<?>> decoders = new ConcurrentHashMap<>();
+
+	<T> void register(Class<T> type, JsonDecoder<T> decoder) {
+		if (type == null || decoder == null) {
+			throw new IllegalArgumentException("Type and decoder must not be null");
+		}
+		decoders.put(type, decoder);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> JsonDecoder<T> get(Class<T> type) {
+		return (JsonDecoder<T>) decoders.get(type);
+	}
+}
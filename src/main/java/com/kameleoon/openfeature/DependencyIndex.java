@@ -0,0 +1,138 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.openfeature.dto.types.ConversionType;
+import com.kameleoon.openfeature.dto.types.CustomDataType;
+import com.kameleoon.openfeature.dto.types.DataType;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.Value;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DependencyIndex maps each data dimension to the flags whose targeting depends on it, so a change of the
+ * visitor data invalidates only the affected flags. Flags without declared dependencies may depend on any
+ * data and are affected by every change.
+ */
+final class DependencyIndex {
+
+	private final Map<String, Map<Integer, Set<String>>> flagsByDimension = new HashMap<>();
+	private final Set<String> trackedFlags = new HashSet<>();
+
+	DependencyIndex(Map<String, Set<DataDimension>> flagDependencies) {
+		for (Map.Entry<String, Set<DataDimension>> flag : flagDependencies.entrySet()) {
+			trackedFlags.add(flag.getKey());
+			for (DataDimension dimension : flag.getValue()) {
+				Map<Integer, Set<String>> flagsById = flagsByDimension.get(dimension.getKey());
+				if (flagsById == null) {
+					flagsById = new HashMap<>();
+					flagsByDimension.put(dimension.getKey(), flagsById);
+				}
+				Set<String> flags = flagsById.get(dimension.getId());
+				if (flags == null) {
+					flags = new HashSet<>();
+					flagsById.put(dimension.getId(), flags);
+				}
+				flags.add(flag.getKey());
+			}
+		}
+	}
+
+	/**
+	 * Makes the filter of the flags affected by the changed dimensions.
+	 */
+	VariableCache.FlagFilter getAffectedFlags(Collection<DataDimension> changes) {
+		if (trackedFlags.isEmpty()) {
+			return flagKey -> true;
+		}
+		Set<String> affected = new HashSet<>();
+		for (DataDimension change : changes) {
+			Map<Integer, Set<String>> flagsById = flagsByDimension.get(change.getKey());
+			if (flagsById == null) {
+				continue;
+			}
+			if (change.getId() == null) {
+				for (Set<String> flags : flagsById.values()) {
+					affected.addAll(flags);
+				}
+			} else {
+				addAll(affected, flagsById.get(change.getId()));
+				addAll(affected, flagsById.get(null));
+			}
+		}
+		return flagKey -> affected.contains(flagKey) || !trackedFlags.contains(flagKey);
+	}
+
+	private static void addAll(Set<String> target, Set<String> flags) {
+		if (flags != null) {
+			target.addAll(flags);
+		}
+	}
+
+	/**
+	 * Computes the dimensions of the visitor data changed by the new context. Data missing from the new
+	 * context stays in the Kameleoon client, so it isn't a change, while conversions are added again every
+	 * time and are always a change.
+	 */
+	static Set<DataDimension> getChanges(EvaluationContext oldContext, EvaluationContext newContext) {
+		Map<String, Value> newData = newContext != null ? newContext.asMap() : null;
+		if (newData == null || newData.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Map<String, Value> oldData = oldContext != null ? oldContext.asMap() : null;
+		if (oldData == null) {
+			oldData = Collections.emptyMap();
+		}
+		Set<DataDimension> changes = new HashSet<>();
+		for (Map.Entry<String, Value> entry : newData.entrySet()) {
+			String key = entry.getKey();
+			Value value = entry.getValue();
+			if (value == null || !DataConverter.hasConverter(key)) {
+				continue;
+			}
+			if (DataType.CONVERSION.getValue().equals(key)) {
+				for (Integer goalId : getItemsById(value, ConversionType.GOAL_ID.getValue()).keySet()) {
+					changes.add(DataDimension.goal(goalId));
+				}
+			} else if (DataType.CUSTOM_DATA.getValue().equals(key)) {
+				Map<Integer, Value> oldItems = getItemsById(oldData.get(key), CustomDataType.INDEX.getValue());
+				for (Map.Entry<Integer, Value> item : getItemsById(value, CustomDataType.INDEX.getValue()).entrySet()) {
+					if (!item.getValue().equals(oldItems.get(item.getKey()))) {
+						changes.add(DataDimension.customData(item.getKey()));
+					}
+				}
+			} else if (!value.equals(oldData.get(key))) {
+				changes.add(DataDimension.of(key));
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Groups the structures of a context entry by their ID field, which defaults to {@code 0} like in
+	 * {@link DataConverter}.
+	 */
+	private static Map<Integer, Value> getItemsById(Value value, String idField) {
+		if (value == null) {
+			return Collections.emptyMap();
+		}
+		List<Value> values = value instanceof Value.List ? value.asList() : Collections.singletonList(value);
+		if (values == null) {
+			return Collections.emptyMap();
+		}
+		Map<Integer, Value> items = new HashMap<>();
+		for (Value item : values) {
+			Map<String, Value> structure = item != null ? item.asStructure() : null;
+			if (structure != null) {
+				Value idValue = structure.get(idField);
+				Integer id = idValue != null ? idValue.asInteger() : null;
+				items.put(id != null ? id : 0, item);
+			}
+		}
+		return items;
+	}
+}
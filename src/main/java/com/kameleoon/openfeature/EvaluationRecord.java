@@ -0,0 +1,99 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.Locale;
+
+/**
+ * EvaluationRecord describes an evaluation returned by the provider, as kept by the evaluation recorder.
+ */
+public final class EvaluationRecord {
+
+	private final long sequence;
+	private final long timestampMillis;
+	private final String flagKey;
+	private final String variableKey;
+	private final String variant;
+	private final String reason;
+	private final ErrorCode errorCode;
+	private final long latencyNanos;
+	private final String threadName;
+
+	EvaluationRecord(long sequence, long timestampMillis, String flagKey, String variableKey, String variant,
+			String reason, ErrorCode errorCode, long latencyNanos, String threadName) {
+		this.sequence = sequence;
+		this.timestampMillis = timestampMillis;
+		this.flagKey = flagKey;
+		this.variableKey = variableKey;
+		this.variant = variant;
+		this.reason = reason;
+		this.errorCode = errorCode;
+		this.latencyNanos = latencyNanos;
+		this.threadName = threadName;
+	}
+
+	/**
+	 * Sequence number of the evaluation since the provider creation.
+	 *
+	 * @return sequence number
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Wall-clock time of the evaluation.
+	 *
+	 * @return milliseconds since the epoch
+	 */
+	public long getTimestampMillis() {
+		return timestampMillis;
+	}
+
+	@NonNull
+	public String getFlagKey() {
+		return flagKey;
+	}
+
+	@Nullable
+	public String getVariableKey() {
+		return variableKey;
+	}
+
+	@Nullable
+	public String getVariant() {
+		return variant;
+	}
+
+	@Nullable
+	public String getReason() {
+		return reason;
+	}
+
+	@Nullable
+	public ErrorCode getErrorCode() {
+		return errorCode;
+	}
+
+	/**
+	 * Time spent in the provider for the evaluation.
+	 *
+	 * @return latency in nanoseconds
+	 */
+	public long getLatencyNanos() {
+		return latencyNanos;
+	}
+
+	@Nullable
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@NonNull
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "#%d %d flag=%s variable=%s variant=%s reason=%s error=%s latency=%dns thread=%s",
+				sequence, timestampMillis, flagKey, variableKey, variant, reason, errorCode, latencyNanos, threadName);
+	}
+}
@@ -0,0 +1,96 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EvaluationRecorder keeps the last evaluations in a preallocated ring buffer. Recording doesn't take locks
+ * and doesn't allocate: a slot is claimed with an atomic counter and its fields are written in place.
+ * <p>
+ * Each slot carries the sequence number of its record, which is reset while the slot is being written, so
+ * {@link #dump()} skips records which are being written or overwritten concurrently.
+ */
+final class EvaluationRecorder {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 20;
+	private static final long WRITING = -1L;
+
+	private final int mask;
+	private final AtomicLong cursor = new AtomicLong();
+	private final AtomicLongArray sequences;
+	private final AtomicLongArray timestamps;
+	private final AtomicLongArray latencies;
+	private final AtomicReferenceArray<String> flagKeys;
+	private final AtomicReferenceArray<String> variableKeys;
+	private final AtomicReferenceArray<String> variants;
+	private final AtomicReferenceArray<String> reasons;
+	private final AtomicReferenceArray<ErrorCode> errorCodes;
+	private final AtomicReferenceArray<String> threadNames;
+
+	/**
+	 * @param capacity number of kept records, rounded up to a power of two
+	 */
+	EvaluationRecorder(int capacity) {
+		int size = Integer.highestOneBit(Math.max(MIN_CAPACITY, Math.min(capacity, MAX_CAPACITY)) - 1) << 1;
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		this.timestamps = new AtomicLongArray(size);
+		this.latencies = new AtomicLongArray(size);
+		this.flagKeys = new AtomicReferenceArray<>(size);
+		this.variableKeys = new AtomicReferenceArray<>(size);
+		this.variants = new AtomicReferenceArray<>(size);
+		this.reasons = new AtomicReferenceArray<>(size);
+		this.errorCodes = new AtomicReferenceArray<>(size);
+		this.threadNames = new AtomicReferenceArray<>(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, WRITING);
+		}
+	}
+
+	int getCapacity() {
+		return mask + 1;
+	}
+
+	void record(String flagKey, String variableKey, String variant, String reason, ErrorCode errorCode,
+			long latencyNanos) {
+		long sequence = cursor.getAndIncrement();
+		int slot = (int) (sequence & mask);
+		sequences.set(slot, WRITING);
+		timestamps.lazySet(slot, System.currentTimeMillis());
+		latencies.lazySet(slot, latencyNanos);
+		flagKeys.lazySet(slot, flagKey);
+		variableKeys.lazySet(slot, variableKey);
+		variants.lazySet(slot, variant);
+		reasons.lazySet(slot, reason);
+		errorCodes.lazySet(slot, errorCode);
+		threadNames.lazySet(slot, Thread.currentThread().getName());
+		sequences.set(slot, sequence);
+	}
+
+	/**
+	 * Returns the kept records from the oldest to the newest.
+	 */
+	List<EvaluationRecord> dump() {
+		long end = cursor.get();
+		long begin = Math.max(0L, end - getCapacity());
+		List<EvaluationRecord> records = new ArrayList<>((int) (end - begin));
+		for (long sequence = begin; sequence < end; sequence++) {
+			int slot = (int) (sequence & mask);
+			if (sequences.get(slot) != sequence) {
+				continue;
+			}
+			EvaluationRecord record = new EvaluationRecord(sequence, timestamps.get(slot), flagKeys.get(slot),
+					variableKeys.get(slot), variants.get(slot), reasons.get(slot), errorCodes.get(slot),
+					latencies.get(slot), threadNames.get(slot));
+			if (sequences.get(slot) == sequence) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+}
@@ -0,0 +1,166 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.Locale;
+
+/**
+ * EvaluationSpan describes a sampled evaluation: its flag, variant and error attributes together with the time
+ * spent in each {@link SpanPhase}.
+ */
+public final class EvaluationSpan {
+
+	private final long startTimeMillis;
+	private final long durationNanos;
+	private final String flagKey;
+	private final String variableKey;
+	private final String variant;
+	private final String reason;
+	private final ErrorCode errorCode;
+	private final String errorMessage;
+	private final boolean cached;
+	private final long[] phaseNanos;
+	private final String threadName;
+
+	private EvaluationSpan(Builder builder, ProviderEvaluation<?> evaluation, long endNanos) {
+		this.startTimeMillis = builder.startTimeMillis;
+		this.durationNanos = endNanos - builder.startNanos;
+		this.flagKey = builder.flagKey;
+		this.variableKey = builder.variableKey;
+		this.variant = evaluation.getVariant();
+		this.reason = evaluation.getReason();
+		this.errorCode = evaluation.getErrorCode();
+		this.errorMessage = evaluation.getErrorMessage();
+		this.cached = builder.cached;
+		this.phaseNanos = builder.phaseNanos;
+		this.threadName = builder.threadName;
+	}
+
+	/**
+	 * Wall-clock time of the evaluation start.
+	 *
+	 * @return milliseconds since the epoch
+	 */
+	public long getStartTimeMillis() {
+		return startTimeMillis;
+	}
+
+	/**
+	 * Time spent in the provider for the evaluation.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Time spent in the phase of the evaluation.
+	 *
+	 * @param phase phase of the evaluation
+	 * @return duration in nanoseconds, {@code 0} if the evaluation didn't pass through the phase
+	 */
+	public long getPhaseNanos(@NonNull SpanPhase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+
+	@NonNull
+	public String getFlagKey() {
+		return flagKey;
+	}
+
+	@Nullable
+	public String getVariableKey() {
+		return variableKey;
+	}
+
+	@Nullable
+	public String getVariant() {
+		return variant;
+	}
+
+	@Nullable
+	public String getReason() {
+		return reason;
+	}
+
+	@Nullable
+	public ErrorCode getErrorCode() {
+		return errorCode;
+	}
+
+	@Nullable
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * Whether the flag variable was already resolved in memory, so the Kameleoon client wasn't called.
+	 *
+	 * @return {@code true} if the flag variable was resolved from memory
+	 */
+	public boolean isCached() {
+		return cached;
+	}
+
+	@NonNull
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@NonNull
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format(Locale.US, "%s variable=%s variant=%s reason=%s error=%s cached=%b %dns [",
+				flagKey, variableKey, variant, reason, errorCode, cached, durationNanos));
+		SpanPhase[] phases = SpanPhase.values();
+		for (int i = 0; i < phases.length; i++) {
+			builder.append(i > 0 ? " " : "").append(phases[i]).append('=').append(phaseNanos[i]).append("ns");
+		}
+		return builder.append("] on ").append(threadName).toString();
+	}
+
+	/**
+	 * Collects the attributes and phase durations of an evaluation in progress. Used by a single thread.
+	 */
+	static final class Builder {
+		private final String flagKey;
+		private final long startTimeMillis = System.currentTimeMillis();
+		private final long startNanos = System.nanoTime();
+		private final String threadName = Thread.currentThread().getName();
+		private final long[] phaseNanos = new long[SpanPhase.values().length];
+		private long phaseStartNanos = startNanos;
+		private String variableKey;
+		private boolean cached;
+
+		Builder(String flagKey) {
+			this.flagKey = flagKey;
+		}
+
+		Builder variableKey(String variableKey) {
+			this.variableKey = variableKey;
+			return this;
+		}
+
+		Builder cached(boolean cached) {
+			this.cached = cached;
+			return this;
+		}
+
+		/**
+		 * Ends the phase started when the previous phase ended.
+		 */
+		void endPhase(SpanPhase phase) {
+			long now = System.nanoTime();
+			phaseNanos[phase.ordinal()] += now - phaseStartNanos;
+			phaseStartNanos = now;
+		}
+
+		EvaluationSpan build(ProviderEvaluation<?> evaluation) {
+			return new EvaluationSpan(this, evaluation, System.nanoTime());
+		}
+	}
+}
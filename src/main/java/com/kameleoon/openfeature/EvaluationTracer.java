@@ -0,0 +1,47 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import java.util.concurrent.Executor;
+
+/**
+ * EvaluationTracer decides which evaluations are traced and hands their spans to the exporter off the
+ * evaluating thread.
+ */
+final class EvaluationTracer {
+
+	private final int period;
+	private final SpanExporter exporter;
+	private final Executor exportExecutor;
+	private int countdown;
+
+	EvaluationTracer(double sampleRate, SpanExporter exporter, Executor exportExecutor) {
+		this.period = (int) Math.max(1L, Math.round(1.0 / sampleRate));
+		this.exporter = exporter;
+		this.exportExecutor = exportExecutor;
+		this.countdown = period;
+	}
+
+	/**
+	 * Samples every n-th evaluation, where n is the inverse of the sample rate. The countdown isn't
+	 * synchronized: concurrent evaluations may occasionally skip or repeat a sample, which is cheaper than
+	 * a shared atomic counter on every evaluation.
+	 */
+	boolean sample() {
+		if (--countdown > 0) {
+			return false;
+		}
+		countdown = period;
+		return true;
+	}
+
+	void export(EvaluationSpan.Builder span, ProviderEvaluation<?> evaluation) {
+		EvaluationSpan completed = span.build(evaluation);
+		exportExecutor.execute(() -> {
+			try {
+				exporter.export(completed);
+			} catch (RuntimeException ignored) {
+				// A failing exporter must not affect the provider
+			}
+		});
+	}
+}
@@ -0,0 +1,118 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.events.EventHandler;
+import dev.openfeature.sdk.events.OpenFeatureEvents;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import kotlinx.coroutines.flow.Flow;
+
+/**
+ * EventDispatcher publishes provider events on the {@link SharedScheduler} thread. An event published
+ * after a quiet period is dispatched right away. Events published within the window after a dispatch are
+ * conflated: only the latest event of each type is kept and they are dispatched together when the window
+ * ends. Conflation by type is the only bound: at most one event per type is pending, so no capacity or
+ * drop policy is needed. The dispatcher doesn't bound what collectors buffer.
+ */
+final class EventDispatcher {
+
+	/**
+	 * Receives the dispatched events.
+	 */
+	interface Sink {
+		void publish(OpenFeatureEvents event);
+	}
+
+	static final long DEFAULT_WINDOW_MILLIS = 50;
+
+	private final EventHandler handler;
+	private final Sink sink;
+	private final ScheduledExecutorService executor;
+	private final long windowNanos;
+	private final Object lock = new Object();
+	private final Map<Object, OpenFeatureEvents> pending = new LinkedHashMap<>();
+	private boolean dispatchScheduled;
+	private long nextDispatchNanos = System.nanoTime();
+	private boolean stopped;
+
+	EventDispatcher() {
+		this(DEFAULT_WINDOW_MILLIS);
+	}
+
+	EventDispatcher(long windowMillis) {
+		this.handler = new EventHandler(SharedScheduler.DISPATCHER);
+		this.sink = handler::publish;
+		this.executor = SharedScheduler.EXECUTOR;
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+	}
+
+	EventDispatcher(Sink sink, ScheduledExecutorService executor, long windowNanos) {
+		this.handler = null;
+		this.sink = sink;
+		this.executor = executor;
+		this.windowNanos = windowNanos;
+	}
+
+	/**
+	 * Flow of the dispatched events.
+	 */
+	Flow<OpenFeatureEvents> observe() {
+		return handler.observe();
+	}
+
+	/**
+	 * Queues the event for dispatch. A waiting event of the same type is replaced.
+	 */
+	void publish(OpenFeatureEvents event) {
+		long delayNanos;
+		synchronized (lock) {
+			if (stopped) {
+				return;
+			}
+			Object type = event.getClass();
+			// Re-inserted, so the events are dispatched in the order of their latest publication
+			pending.remove(type);
+			pending.put(type, event);
+			if (dispatchScheduled) {
+				return;
+			}
+			dispatchScheduled = true;
+			delayNanos = Math.max(0L, nextDispatchNanos - System.nanoTime());
+		}
+		try {
+			executor.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException ignored) {
+			// Events are not delivered once the executor is shut down
+		}
+	}
+
+	/**
+	 * Drops the waiting events and ignores further ones.
+	 */
+	void shutdown() {
+		synchronized (lock) {
+			stopped = true;
+			pending.clear();
+		}
+	}
+
+	private void dispatch() {
+		List<OpenFeatureEvents> events;
+		synchronized (lock) {
+			dispatchScheduled = false;
+			if (stopped) {
+				return;
+			}
+			events = new ArrayList<>(pending.values());
+			pending.clear();
+			nextDispatchNanos = System.nanoTime() + windowNanos;
+		}
+		for (OpenFeatureEvents event : events) {
+			sink.publish(event);
+		}
+	}
+}
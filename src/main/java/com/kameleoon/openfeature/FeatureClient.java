@@ -0,0 +1,44 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.KameleoonClient;
+import com.kameleoon.KameleoonException;
+import com.kameleoon.types.Variation;
+
+/**
+ * FeatureClient is the part of the Kameleoon client used by {@link KameleoonResolver}. Keeping the resolver
+ * behind this interface allows it to run with an in-memory stand-in instead of a real client.
+ */
+interface FeatureClient {
+
+	/**
+	 * Returns the variation of the feature flag assigned to the visitor.
+	 */
+	Variation getVariation(String flagKey) throws KameleoonException;
+
+	/**
+	 * Whether the client has loaded its configuration.
+	 */
+	boolean isReady();
+
+	/**
+	 * Adapts the Kameleoon client.
+	 */
+	final class Adapter implements FeatureClient {
+
+		private final KameleoonClient client;
+
+		Adapter(KameleoonClient client) {
+			this.client = client;
+		}
+
+		@Override
+		public Variation getVariation(String flagKey) throws KameleoonException {
+			return client.getVariation(flagKey);
+		}
+
+		@Override
+		public boolean isReady() {
+			return client.isReady();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * FileSpanExporter appends the exported spans to a file, one JSON object per line. The file isn't rotated:
+ * delete it when the spans are collected.
+ */
+public final class FileSpanExporter implements SpanExporter {
+
+	private final File file;
+
+	/**
+	 * Constructor for FileSpanExporter
+	 *
+	 * @param file File to append the spans to
+	 */
+	public FileSpanExporter(@NonNull File file) {
+		this.file = file;
+	}
+
+	@Override
+	public void export(@NonNull EvaluationSpan span) {
+		String line = toJson(span) + "\n";
+		synchronized (this) {
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+				writer.write(line);
+			} catch (IOException ignored) {
+				// Spans are diagnostics: a span which can't be written is dropped
+			}
+		}
+	}
+
+	static String toJson(EvaluationSpan span) {
+		JsonObjectBuilder phases = Json.createObjectBuilder();
+		for (SpanPhase phase : SpanPhase.values()) {
+			phases.add(phase.name(), span.getPhaseNanos(phase));
+		}
+		JsonObjectBuilder json = Json.createObjectBuilder()
+				.add("startTimeMillis", span.getStartTimeMillis())
+				.add("durationNanos", span.getDurationNanos())
+				.add("flagKey", span.getFlagKey());
+		addNullable(json, "variableKey", span.getVariableKey());
+		addNullable(json, "variant", span.getVariant());
+		addNullable(json, "reason", span.getReason());
+		addNullable(json, "errorCode", span.getErrorCode() != null ? span.getErrorCode().name() : null);
+		addNullable(json, "errorMessage", span.getErrorMessage());
+		return json.add("cached", span.isCached())
+				.add("thread", span.getThreadName())
+				.add("phases", phases)
+				.build()
+				.toString();
+	}
+
+	private static void addNullable(JsonObjectBuilder json, String name, String value) {
+		if (value != null) {
+			json.add(name, value);
+		} else {
+			json.addNull(name);
+		}
+	}
+}
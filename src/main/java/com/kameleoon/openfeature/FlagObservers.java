@@ -0,0 +1,115 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.Value;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import kotlinx.coroutines.flow.FlowKt;
+import kotlinx.coroutines.flow.MutableStateFlow;
+import kotlinx.coroutines.flow.StateFlow;
+import kotlinx.coroutines.flow.StateFlowKt;
+
+/**
+ * FlagObservers keeps a state flow per observed flag variable, type and default value. Flows start with the
+ * default value, are updated on {@link #refresh(Resolver)} and emit only when the resolved value actually
+ * changes. Observers live as long as the provider, they are dropped by {@link #clear()} on shutdown.
+ */
+final class FlagObservers {
+
+	private final ConcurrentHashMap<Key, Observer<?>> observers = new ConcurrentHashMap<>();
+
+	/**
+	 * Checks that values of the type can be observed.
+	 */
+	static boolean isSupportedType(Class<?> type) {
+		return type == Boolean.class || type == Integer.class || type == Double.class || type == String.class
+				|| type == Value.class;
+	}
+
+	/**
+	 * Returns the flow of the flag variable values. The flow is created on the first call with the default value,
+	 * it doesn't resolve the flag variable on the calling thread.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> StateFlow<T> observe(String flagKey, String variableKey, Class<T> type, T defaultValue) {
+		Key key = new Key(FlagVariable.of(flagKey, variableKey), type, defaultValue);
+		Observer<T> observer = (Observer<T>) observers.get(key);
+		if (observer == null) {
+			Observer<T> created = new Observer<>(key.flagVariable, type, defaultValue);
+			observer = (Observer<T>) observers.putIfAbsent(key, created);
+			if (observer == null) {
+				observer = created;
+			}
+		}
+		return FlowKt.asStateFlow(observer.flow);
+	}
+
+	boolean isEmpty() {
+		return observers.isEmpty();
+	}
+
+	/**
+	 * Drops all observers. Their flows keep the last value and no longer change.
+	 */
+	void clear() {
+		observers.clear();
+	}
+
+	/**
+	 * Resolves all observed flag variables again and updates the flows.
+	 */
+	void refresh(Resolver resolver) {
+		for (Observer<?> observer : observers.values()) {
+			observer.refresh(resolver);
+		}
+	}
+
+	private static final class Observer<T> {
+		private final FlagVariable flagVariable;
+		private final Class<T> type;
+		private final T defaultValue;
+		private final MutableStateFlow<T> flow;
+
+		Observer(FlagVariable flagVariable, Class<T> type, T defaultValue) {
+			this.flagVariable = flagVariable;
+			this.type = type;
+			this.defaultValue = defaultValue;
+			this.flow = StateFlowKt.MutableStateFlow(defaultValue);
+		}
+
+		void refresh(Resolver resolver) {
+			T value = resolver.getValue(flagVariable.getFlagKey(), flagVariable.getVariableKey(), type);
+			// StateFlow doesn't emit values which are equal to the current one
+			flow.setValue(value != null ? value : defaultValue);
+		}
+	}
+
+	private static final class Key {
+		private final FlagVariable flagVariable;
+		private final Class<?> type;
+		private final Object defaultValue;
+
+		Key(FlagVariable flagVariable, Class<?> type, Object defaultValue) {
+			this.flagVariable = flagVariable;
+			this.type = type;
+			this.defaultValue = defaultValue;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return type == other.type && flagVariable.equals(other.flagVariable)
+					&& Objects.equals(defaultValue, other.defaultValue);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * flagVariable.hashCode() + type.hashCode()) + Objects.hashCode(defaultValue);
+		}
+	}
+}
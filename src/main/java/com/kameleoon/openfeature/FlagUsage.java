@@ -0,0 +1,57 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * FlagUsage is the number of evaluations of a flag counted by the usage ledger, including those persisted
+ * by previous runs of the application.
+ */
+public final class FlagUsage {
+
+	private final String flagKey;
+	private final Map<String, Long> variantCounts;
+	private final long evaluationCount;
+
+	FlagUsage(String flagKey, Map<String, Long> variantCounts) {
+		this.flagKey = flagKey;
+		this.variantCounts = Collections.unmodifiableMap(variantCounts);
+		long count = 0;
+		for (Long variantCount : variantCounts.values()) {
+			count += variantCount;
+		}
+		this.evaluationCount = count;
+	}
+
+	@NonNull
+	public String getFlagKey() {
+		return flagKey;
+	}
+
+	/**
+	 * Number of evaluations of the flag.
+	 *
+	 * @return total number of evaluations
+	 */
+	public long getEvaluationCount() {
+		return evaluationCount;
+	}
+
+	/**
+	 * Number of evaluations by variant. Evaluations which returned no variant, such as failed ones, are
+	 * counted under the {@code null} key.
+	 *
+	 * @return unmodifiable map of counts by variant
+	 */
+	@NonNull
+	public Map<String, Long> getVariantCounts() {
+		return variantCounts;
+	}
+
+	@NonNull
+	@Override
+	public String toString() {
+		return flagKey + "=" + evaluationCount + " " + variantCounts;
+	}
+}
@@ -0,0 +1,77 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * FlagVariable identifies a variable of a feature flag. If the variable key is not provided,
+ * the first variable of the variation is used, the same way as for evaluations without
+ * {@link com.kameleoon.openfeature.dto.types.DataType#VARIABLE_KEY} in the context.
+ */
+public final class FlagVariable {
+
+	private final String flagKey;
+	private final String variableKey;
+
+	private FlagVariable(String flagKey, String variableKey) {
+		if (flagKey == null) {
+			throw new IllegalArgumentException("Flag key must not be null");
+		}
+		this.flagKey = flagKey;
+		this.variableKey = variableKey;
+	}
+
+	/**
+	 * Makes FlagVariable for the first variable of the flag.
+	 *
+	 * @param flagKey the key of the flag
+	 * @return flag variable
+	 */
+	public static FlagVariable of(@NonNull String flagKey) {
+		return new FlagVariable(flagKey, null);
+	}
+
+	/**
+	 * Makes FlagVariable for the given variable of the flag.
+	 *
+	 * @param flagKey     the key of the flag
+	 * @param variableKey the key of the variable
+	 * @return flag variable
+	 */
+	public static FlagVariable of(@NonNull String flagKey, @Nullable String variableKey) {
+		return new FlagVariable(flagKey, variableKey);
+	}
+
+	@NonNull
+	public String getFlagKey() {
+		return flagKey;
+	}
+
+	@Nullable
+	public String getVariableKey() {
+		return variableKey;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof FlagVariable)) {
+			return false;
+		}
+		FlagVariable other = (FlagVariable) o;
+		return flagKey.equals(other.flagKey)
+				&& (variableKey == null ? other.variableKey == null : variableKey.equals(other.variableKey));
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * flagKey.hashCode() + (variableKey != null ? variableKey.hashCode() : 0);
+	}
+
+	@Override
+	public String toString() {
+		return variableKey != null ? flagKey + "/" + variableKey : flagKey;
+	}
+}
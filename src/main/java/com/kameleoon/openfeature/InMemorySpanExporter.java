@@ -0,0 +1,60 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * InMemorySpanExporter keeps the last exported spans in memory, e.g. to inspect them in tests or in a debug
+ * screen.
+ */
+public final class InMemorySpanExporter implements SpanExporter {
+
+	private final int capacity;
+	private final ArrayDeque<EvaluationSpan> spans;
+
+	/**
+	 * Constructor for InMemorySpanExporter
+	 *
+	 * @param capacity Number of kept spans; the oldest span is dropped when another one is exported
+	 */
+	public InMemorySpanExporter(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		this.capacity = capacity;
+		this.spans = new ArrayDeque<>(capacity);
+	}
+
+	@Override
+	public void export(@NonNull EvaluationSpan span) {
+		synchronized (spans) {
+			if (spans.size() == capacity) {
+				spans.pollFirst();
+			}
+			spans.addLast(span);
+		}
+	}
+
+	/**
+	 * Get the kept spans.
+	 *
+	 * @return spans from the oldest to the newest
+	 */
+	@NonNull
+	public List<EvaluationSpan> getSpans() {
+		synchronized (spans) {
+			return new ArrayList<>(spans);
+		}
+	}
+
+	/**
+	 * Drops the kept spans.
+	 */
+	public void clear() {
+		synchronized (spans) {
+			spans.clear();
+		}
+	}
+}
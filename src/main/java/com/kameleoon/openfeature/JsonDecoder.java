@@ -0,0 +1,27 @@
+package com.kameleoon.openfeature;
+
+import javax.json.JsonValue;
+
+/**
+ * JsonDecoder binds a JSON variable value directly to a user type, without the intermediate
+ * OpenFeature {@link dev.openfeature.sdk.Value} tree. Decoders are registered once per type with
+ * {@link KameleoonProvider#registerDecoder(Class, JsonDecoder)}.
+ * <p>
+ * Decoded objects of prefetched flag variables are kept until the configuration or the visitor data changes
+ * and are shared between evaluations, so the user type should be immutable. Other flag variables are decoded on
+ * every evaluation.
+ *
+ * @param <T> the user type
+ */
+@FunctionalInterface
+public interface JsonDecoder<T> {
+
+	/**
+	 * Decodes the JSON value.
+	 *
+	 * @param json the JSON value of the variable
+	 * @return the decoded object
+	 * @throws Exception if the JSON value doesn't match the user type
+	 */
+	T decode(JsonValue json) throws Exception;
+}
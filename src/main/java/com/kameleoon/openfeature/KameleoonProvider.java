@@ -8,24 +8,42 @@ import com.kameleoon.KameleoonClientConfig;
 import com.kameleoon.KameleoonClientFactory;
 import com.kameleoon.KameleoonException;
 import com.kameleoon.KameleoonException.VisitorCodeInvalid;
+import com.kameleoon.data.Conversion;
 import com.kameleoon.data.Data;
 import dev.openfeature.sdk.EvaluationContext;
 import dev.openfeature.sdk.FeatureProvider;
 import dev.openfeature.sdk.Hook;
 import dev.openfeature.sdk.ProviderEvaluation;
 import dev.openfeature.sdk.ProviderMetadata;
+import dev.openfeature.sdk.Reason;
 import dev.openfeature.sdk.Value;
-import dev.openfeature.sdk.events.EventHandler;
 import dev.openfeature.sdk.events.OpenFeatureEvents;
 import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderError;
 import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderNotReady;
 import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady;
 import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderStale;
+import dev.openfeature.sdk.exceptions.ErrorCode;
 import dev.openfeature.sdk.exceptions.OpenFeatureError.ProviderNotReadyError;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import kotlinx.coroutines.CompletableDeferred;
+import kotlinx.coroutines.CompletableDeferredKt;
+import kotlinx.coroutines.Deferred;
 import kotlinx.coroutines.Dispatchers;
+import kotlinx.coroutines.ExecutorsKt;
+import kotlinx.coroutines.Job;
 import kotlinx.coroutines.flow.Flow;
 
 /**
@@ -33,13 +51,43 @@ import kotlinx.coroutines.flow.Flow;
  */
 public class KameleoonProvider implements FeatureProvider {
 
+	/**
+	 * Reason of the evaluations with a time budget which return the default value because the flag can't be
+	 * resolved within the budget.
+	 */
+	public static final String REASON_DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
 	private static final ProviderMetadata METADATA = () -> "Kameleoon Provider";
+	private static final Object PREFETCH_TASK_KEY = new Object();
+	private static final Object REFRESH_OBSERVERS_TASK_KEY = new Object();
+	private static final Object PUBLISH_SNAPSHOT_TASK_KEY = new Object();
+	private static final Object FLUSH_USAGE_TASK_KEY = new Object();
+	private static final Object FLUSH_WORKLOAD_TASK_KEY = new Object();
+	private static final Object ADD_CONVERSIONS_TASK_KEY = new Object();
 
-	private final String siteCode;
-	private final Resolver resolver;
-	private KameleoonClient client;
+	private final ProviderLifecycle<Binding> lifecycle;
 	private final Context context;
-	private final EventHandler eventHandler = new EventHandler(Dispatchers.getIO());
+	private final KameleoonProviderConfig providerConfig;
+	private final Executor ioExecutor = ExecutorsKt.asExecutor(Dispatchers.getIO());
+	private volatile EvaluationContext lastEvaluationContext;
+	private final EventDispatcher events;
+	final BackgroundWorker worker = new BackgroundWorker();
+	private final FlagObservers flagObservers = new FlagObservers();
+	private final DecoderRegistry decoders = new DecoderRegistry();
+	private final AsyncEvaluator asyncEvaluator = new AsyncEvaluator(ioExecutor);
+	private final AppLifecycleMonitor lifecycleMonitor;
+	private final StartupTracer tracer;
+	private final List<FlagVariable> prefetchFlags;
+	private final SharedSnapshotWriter snapshotWriter;
+	private final long shutdownTimeoutNanos;
+	private final EvaluationRecorder recorder;
+	private final UsageLedger usageLedger;
+	private final ConversionBatcher conversionBatcher;
+	private final EvaluationTracer evaluationTracer;
+	private final DependencyIndex dependencyIndex;
+	private final WorkloadRecorder workloadRecorder;
+	private final Set<FlagVariable> budgetedFlags =
+			Collections.newSetFromMap(new ConcurrentHashMap<FlagVariable, Boolean>());
 
 	/**
 	 * Constructor for KameleoonProvider
@@ -51,7 +99,21 @@ public class KameleoonProvider implements FeatureProvider {
 	 */
 	public KameleoonProvider(String siteCode, KameleoonClientConfig config, Context context)
 			throws ProviderNotReadyError {
-		this(siteCode, makeKameleoonClient(siteCode, config, context), context);
+		this(siteCode, config, KameleoonProviderConfig.defaultConfig(), context);
+	}
+
+	/**
+	 * Constructor for KameleoonProvider
+	 *
+	 * @param siteCode       Site code
+	 * @param config         Kameleoon client configuration
+	 * @param providerConfig Provider configuration
+	 * @param context        Android context
+	 * @throws ProviderNotReadyError when client creation fails
+	 */
+	public KameleoonProvider(String siteCode, KameleoonClientConfig config, KameleoonProviderConfig providerConfig,
+			Context context) throws ProviderNotReadyError {
+		this(siteCode, config, providerConfig, context, new StartupTracer());
 	}
 
 	/**
@@ -65,18 +127,101 @@ public class KameleoonProvider implements FeatureProvider {
 	 */
 	public KameleoonProvider(String siteCode, String visitorCode, KameleoonClientConfig config, Context context)
 			throws ProviderNotReadyError {
-		this(siteCode, makeKameleoonClient(siteCode, visitorCode, config, context), context);
+		this(siteCode, visitorCode, config, KameleoonProviderConfig.defaultConfig(), context);
+	}
+
+	/**
+	 * Constructor for KameleoonProvider
+	 *
+	 * @param siteCode       Site code
+	 * @param visitorCode    Visitor code
+	 * @param config         Kameleoon client configuration
+	 * @param providerConfig Provider configuration
+	 * @param context        Android context
+	 * @throws ProviderNotReadyError when client creation fails
+	 */
+	public KameleoonProvider(String siteCode, String visitorCode, KameleoonClientConfig config,
+			KameleoonProviderConfig providerConfig, Context context) throws ProviderNotReadyError {
+		this(siteCode, visitorCode, config, providerConfig, context, new StartupTracer());
 	}
 
 	KameleoonProvider(String siteCode, KameleoonClient client, Resolver resolver, Context context) {
-		this.client = client;
-		this.siteCode = siteCode;
-		this.resolver = resolver;
+		this(siteCode, client, resolver, KameleoonProviderConfig.defaultConfig(), context);
+	}
+
+	KameleoonProvider(String siteCode, KameleoonClient client, Resolver resolver,
+			KameleoonProviderConfig providerConfig, Context context) {
+		this(siteCode, client, resolver, providerConfig, context, new StartupTracer());
+	}
+
+	private KameleoonProvider(String siteCode, KameleoonClient client, Resolver resolver,
+			KameleoonProviderConfig providerConfig, Context context, StartupTracer tracer) {
+		this.lifecycle = new ProviderLifecycle<>(new Binding(siteCode, client, resolver));
 		this.context = context;
+		this.providerConfig = providerConfig;
+		this.tracer = tracer;
+		this.events = new EventDispatcher(providerConfig.getEventConflationWindowMillis());
+		this.prefetchFlags = providerConfig.getPrefetchFlags();
+		this.snapshotWriter = providerConfig.isShareSnapshot()
+				? new SharedSnapshotWriter(SharedSnapshotFile.get(context, siteCode))
+				: null;
+		this.recorder = providerConfig.getEvaluationRecorderCapacity() > 0
+				? new EvaluationRecorder(providerConfig.getEvaluationRecorderCapacity())
+				: null;
+		this.usageLedger = providerConfig.getUsageFlushIntervalMillis() > 0
+				? new UsageLedger(UsageLedger.getFile(context, siteCode),
+				TimeUnit.MILLISECONDS.toNanos(providerConfig.getUsageFlushIntervalMillis()))
+				: null;
+		if (usageLedger != null) {
+			ioExecutor.execute(usageLedger::load);
+		}
+		this.shutdownTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(providerConfig.getShutdownTimeoutMillis());
+		this.conversionBatcher = providerConfig.getConversionBatchWindowMillis() > 0 ? new ConversionBatcher() : null;
+		this.dependencyIndex = new DependencyIndex(providerConfig.getFlagDependencies());
+		this.workloadRecorder = providerConfig.getWorkloadFile() != null
+				? new WorkloadRecorder(providerConfig.getWorkloadFile())
+				: null;
+		this.evaluationTracer = providerConfig.getTraceSampleRate() > 0
+				? new EvaluationTracer(providerConfig.getTraceSampleRate(), providerConfig.getSpanExporter(), ioExecutor)
+				: null;
+		boolean pauseInBackground = providerConfig.isPauseInBackground();
+		this.lifecycleMonitor = pauseInBackground || conversionBatcher != null
+				? AppLifecycleMonitor.register(context, new AppLifecycleMonitor.Listener() {
+					@Override
+					public void onForeground() {
+						if (pauseInBackground) {
+							worker.resume();
+						}
+					}
+
+					@Override
+					public void onBackground() {
+						if (conversionBatcher != null) {
+							addBatchedConversions();
+						}
+						if (pauseInBackground) {
+							worker.pause();
+						}
+					}
+				})
+				: null;
+	}
+
+	private KameleoonProvider(String siteCode, KameleoonClientConfig config, KameleoonProviderConfig providerConfig,
+			Context context, StartupTracer tracer) throws ProviderNotReadyError {
+		this(siteCode, makeKameleoonClient(siteCode, config, context, tracer), providerConfig, context, tracer);
+	}
+
+	private KameleoonProvider(String siteCode, String visitorCode, KameleoonClientConfig config,
+			KameleoonProviderConfig providerConfig, Context context, StartupTracer tracer)
+			throws ProviderNotReadyError {
+		this(siteCode, makeKameleoonClient(siteCode, visitorCode, config, context, tracer), providerConfig, context,
+				tracer);
 	}
 
-	private KameleoonProvider(String siteCode, KameleoonClient client, Context context) {
-		this(siteCode, client, new KameleoonResolver(client), context);
+	private KameleoonProvider(String siteCode, KameleoonClient client, KameleoonProviderConfig providerConfig,
+			Context context, StartupTracer tracer) {
+		this(siteCode, client, new KameleoonResolver(client, providerConfig), providerConfig, context, tracer);
 	}
 
 	/**
@@ -85,15 +230,19 @@ public class KameleoonProvider implements FeatureProvider {
 	 * @param siteCode Site code
 	 * @param config   Kameleoon client configuration
 	 * @param context  Android context
+	 * @param tracer   Startup tracer
 	 * @return Kameleoon client
 	 * @throws ProviderNotReadyError when client creation fails
 	 */
-	private static KameleoonClient makeKameleoonClient(String siteCode, KameleoonClientConfig config, Context context)
-			throws ProviderNotReadyError {
+	private static KameleoonClient makeKameleoonClient(String siteCode, KameleoonClientConfig config, Context context,
+			StartupTracer tracer) throws ProviderNotReadyError {
+		tracer.begin(StartupPhase.CLIENT_CREATION);
 		try {
 			return KameleoonClientFactory.create(siteCode, config, context);
 		} catch (KameleoonException.SiteCodeIsEmpty | VisitorCodeInvalid ex) {
 			throw new ProviderNotReadyError(ex.getMessage());
+		} finally {
+			tracer.end(StartupPhase.CLIENT_CREATION);
 		}
 	}
 
@@ -104,16 +253,20 @@ public class KameleoonProvider implements FeatureProvider {
 	 * @param visitorCode Visitor code
 	 * @param config      Kameleoon client configuration
 	 * @param context     Android context
+	 * @param tracer      Startup tracer
 	 * @return Kameleoon client
 	 * @throws ProviderNotReadyError when client creation fails
 	 */
 	private static KameleoonClient makeKameleoonClient(String siteCode, String visitorCode, KameleoonClientConfig config,
-			Context context)
+			Context context, StartupTracer tracer)
 			throws ProviderNotReadyError {
+		tracer.begin(StartupPhase.CLIENT_CREATION);
 		try {
 			return KameleoonClientFactory.create(siteCode, visitorCode, config, context);
 		} catch (KameleoonException.SiteCodeIsEmpty | VisitorCodeInvalid ex) {
 			throw new ProviderNotReadyError(ex.getMessage());
+		} finally {
+			tracer.end(StartupPhase.CLIENT_CREATION);
 		}
 	}
 
@@ -123,7 +276,17 @@ public class KameleoonProvider implements FeatureProvider {
 	 * @return Kameleoon client
 	 */
 	public KameleoonClient getClient() {
-		return client;
+		Binding binding = lifecycle.getClient();
+		return binding != null ? binding.client : null;
+	}
+
+	/**
+	 * Get timings of the provider startup phases
+	 *
+	 * @return snapshot of the startup timings
+	 */
+	public StartupReport getStartupReport() {
+		return tracer.makeReport();
 	}
 
 	/**
@@ -156,7 +319,7 @@ public class KameleoonProvider implements FeatureProvider {
 	@Override
 	public ProviderEvaluation<Boolean> getBooleanEvaluation(@NonNull String flagKey, boolean defaultValue,
 			@Nullable EvaluationContext evaluationContext) {
-		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+		return evaluate(flagKey, defaultValue, evaluationContext);
 	}
 
 	/**
@@ -171,7 +334,7 @@ public class KameleoonProvider implements FeatureProvider {
 	@Override
 	public ProviderEvaluation<Double> getDoubleEvaluation(@NonNull String flagKey, double defaultValue,
 			@Nullable EvaluationContext evaluationContext) {
-		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+		return evaluate(flagKey, defaultValue, evaluationContext);
 	}
 
 	/**
@@ -186,7 +349,7 @@ public class KameleoonProvider implements FeatureProvider {
 	@Override
 	public ProviderEvaluation<Integer> getIntegerEvaluation(@NonNull String flagKey, int defaultValue,
 			@Nullable EvaluationContext evaluationContext) {
-		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+		return evaluate(flagKey, defaultValue, evaluationContext);
 	}
 
 	/**
@@ -201,14 +364,25 @@ public class KameleoonProvider implements FeatureProvider {
 	@Override
 	public ProviderEvaluation<Value> getObjectEvaluation(@NonNull String flagKey, @NonNull Value defaultValue,
 			@Nullable EvaluationContext evaluationContext) {
-		ProviderEvaluation<Object> providerEvaluation = resolver.resolve(flagKey, defaultValue, evaluationContext);
-		return new ProviderEvaluation<>(
-				DataConverter.toOpenFeature(providerEvaluation.getValue()),
-				providerEvaluation.getVariant(),
-				providerEvaluation.getReason(),
-				providerEvaluation.getErrorCode(),
-				providerEvaluation.getErrorMessage()
-		);
+		long startNanos = recorder != null || workloadRecorder != null ? System.nanoTime() : 0L;
+		ProviderEvaluation<Value> evaluation;
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+		if (generation == null) {
+			evaluation = makeShutdownEvaluation(defaultValue);
+		} else {
+			try {
+				if (evaluationTracer != null && evaluationTracer.sample()) {
+					EvaluationSpan.Builder span = new EvaluationSpan.Builder(flagKey);
+					evaluation = generation.client.resolver.resolveValue(flagKey, defaultValue, evaluationContext, span);
+					evaluationTracer.export(span, evaluation);
+				} else {
+					evaluation = generation.client.resolver.resolveValue(flagKey, defaultValue, evaluationContext);
+				}
+			} finally {
+				generation.exit();
+			}
+		}
+		return record(flagKey, evaluationContext, evaluation, startNanos);
 	}
 
 	/**
@@ -223,47 +397,916 @@ public class KameleoonProvider implements FeatureProvider {
 	@Override
 	public ProviderEvaluation<String> getStringEvaluation(@NonNull String flagKey, @NonNull String defaultValue,
 			@Nullable EvaluationContext evaluationContext) {
-		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+		return evaluate(flagKey, defaultValue, evaluationContext);
+	}
+
+	/**
+	 * Get the last evaluations kept by the recorder enabled with
+	 * {@link KameleoonProviderConfig.Builder#recordEvaluations(int)}, for example to attach them to a bug report.
+	 *
+	 * @return evaluations from the oldest to the newest, empty if the recorder is disabled
+	 */
+	@NonNull
+	public List<EvaluationRecord> dumpEvaluations() {
+		return recorder != null ? recorder.dump() : new ArrayList<EvaluationRecord>();
+	}
+
+	/**
+	 * Get the number of evaluations per flag and variant counted since the flag usage tracking was enabled
+	 * with {@link KameleoonProviderConfig.Builder#trackUsage(long)}. Flags which are never evaluated are absent.
+	 *
+	 * @return usage of the evaluated flags, the most used first, empty if the usage is not tracked
+	 */
+	@NonNull
+	public List<FlagUsage> getFlagUsage() {
+		return usageLedger != null ? usageLedger.getUsage() : new ArrayList<FlagUsage>();
+	}
+
+	/**
+	 * Get states of the per-flag circuit breakers, enabled by
+	 * {@link KameleoonProviderConfig.Builder#circuitBreaker(int, long)}.
+	 *
+	 * @return snapshot of circuit states by flag key
+	 */
+	@NonNull
+	public Map<String, CircuitState> getCircuitStates() {
+		Binding binding = lifecycle.getClient();
+		return binding != null ? binding.resolver.getCircuitStates() : Collections.<String, CircuitState>emptyMap();
+	}
+
+	/**
+	 * Register a decoder which binds JSON variables to the user type.
+	 *
+	 * @param type    The user type.
+	 * @param decoder The decoder of JSON values to the user type.
+	 * @param <T>     The user type.
+	 */
+	public <T> void registerDecoder(@NonNull Class<T> type, @NonNull JsonDecoder<T> decoder) {
+		decoders.register(type, decoder);
+	}
+
+	/**
+	 * Evaluate a JSON flag and bind its value to the user type with the decoder registered by
+	 * {@link #registerDecoder(Class, JsonDecoder)}. The decoded object of a prefetched flag variable is
+	 * reused until the configuration or the context changes.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param type              The user type.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param <T>               The user type.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public <T> ProviderEvaluation<T> getTypedEvaluation(@NonNull String flagKey, @NonNull Class<T> type,
+			@Nullable T defaultValue, @Nullable EvaluationContext evaluationContext) {
+		JsonDecoder<T> decoder = decoders.get(type);
+		if (decoder == null) {
+			return new ProviderEvaluation<>(defaultValue, null, Reason.ERROR.toString(), ErrorCode.GENERAL,
+					"No decoder is registered for " + type.getName());
+		}
+		long startNanos = recorder != null || workloadRecorder != null ? System.nanoTime() : 0L;
+		ProviderEvaluation<T> evaluation;
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+		if (generation == null) {
+			evaluation = makeShutdownEvaluation(defaultValue);
+		} else {
+			try {
+				evaluation = generation.client.resolver.resolveDecoded(flagKey, defaultValue, type, decoder,
+						evaluationContext);
+			} finally {
+				generation.exit();
+			}
+		}
+		return record(flagKey, evaluationContext, evaluation, startNanos);
+	}
+
+	/**
+	 * Evaluate a boolean flag off the caller's thread. Concurrent requests with the same flag key,
+	 * variable key and default value share one evaluation.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @return The deferred evaluation result.
+	 */
+	@NonNull
+	public Deferred<ProviderEvaluation<Boolean>> getBooleanEvaluationAsync(@NonNull String flagKey,
+			boolean defaultValue, @Nullable EvaluationContext evaluationContext) {
+		return asyncEvaluator.submit(flagKey, VariableResolver.getVariableKey(evaluationContext), defaultValue,
+				() -> getBooleanEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate a double flag off the caller's thread. Concurrent requests with the same flag key,
+	 * variable key and default value share one evaluation.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @return The deferred evaluation result.
+	 */
+	@NonNull
+	public Deferred<ProviderEvaluation<Double>> getDoubleEvaluationAsync(@NonNull String flagKey,
+			double defaultValue, @Nullable EvaluationContext evaluationContext) {
+		return asyncEvaluator.submit(flagKey, VariableResolver.getVariableKey(evaluationContext), defaultValue,
+				() -> getDoubleEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate an integer flag off the caller's thread. Concurrent requests with the same flag key,
+	 * variable key and default value share one evaluation.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @return The deferred evaluation result.
+	 */
+	@NonNull
+	public Deferred<ProviderEvaluation<Integer>> getIntegerEvaluationAsync(@NonNull String flagKey,
+			int defaultValue, @Nullable EvaluationContext evaluationContext) {
+		return asyncEvaluator.submit(flagKey, VariableResolver.getVariableKey(evaluationContext), defaultValue,
+				() -> getIntegerEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate an object flag off the caller's thread, including the conversion of the value. Concurrent
+	 * requests with the same flag key, variable key and default value share one evaluation.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @return The deferred evaluation result.
+	 */
+	@NonNull
+	public Deferred<ProviderEvaluation<Value>> getObjectEvaluationAsync(@NonNull String flagKey,
+			@NonNull Value defaultValue, @Nullable EvaluationContext evaluationContext) {
+		return asyncEvaluator.submit(flagKey, VariableResolver.getVariableKey(evaluationContext), defaultValue,
+				() -> getObjectEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate a string flag off the caller's thread. Concurrent requests with the same flag key,
+	 * variable key and default value share one evaluation.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @return The deferred evaluation result.
+	 */
+	@NonNull
+	public Deferred<ProviderEvaluation<String>> getStringEvaluationAsync(@NonNull String flagKey,
+			@NonNull String defaultValue, @Nullable EvaluationContext evaluationContext) {
+		return asyncEvaluator.submit(flagKey, VariableResolver.getVariableKey(evaluationContext), defaultValue,
+				() -> getStringEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate a boolean flag within the time budget. If the flag isn't resolved in time, the default value is
+	 * returned with {@link #REASON_DEADLINE_EXCEEDED} and the resolution is completed in background, so the next
+	 * evaluations of the flag are served from memory.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param budget            The maximum time to wait for the resolution.
+	 * @param unit              The time unit of the budget.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public ProviderEvaluation<Boolean> getBooleanEvaluation(@NonNull String flagKey, boolean defaultValue,
+			@Nullable EvaluationContext evaluationContext, long budget, @NonNull TimeUnit unit) {
+		return evaluateWithin(flagKey, defaultValue, evaluationContext, unit.toNanos(budget),
+				() -> getBooleanEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate a double flag within the time budget. If the flag isn't resolved in time, the default value is
+	 * returned with {@link #REASON_DEADLINE_EXCEEDED} and the resolution is completed in background, so the next
+	 * evaluations of the flag are served from memory.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param budget            The maximum time to wait for the resolution.
+	 * @param unit              The time unit of the budget.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public ProviderEvaluation<Double> getDoubleEvaluation(@NonNull String flagKey, double defaultValue,
+			@Nullable EvaluationContext evaluationContext, long budget, @NonNull TimeUnit unit) {
+		return evaluateWithin(flagKey, defaultValue, evaluationContext, unit.toNanos(budget),
+				() -> getDoubleEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate an integer flag within the time budget. If the flag isn't resolved in time, the default value is
+	 * returned with {@link #REASON_DEADLINE_EXCEEDED} and the resolution is completed in background, so the next
+	 * evaluations of the flag are served from memory.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param budget            The maximum time to wait for the resolution.
+	 * @param unit              The time unit of the budget.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public ProviderEvaluation<Integer> getIntegerEvaluation(@NonNull String flagKey, int defaultValue,
+			@Nullable EvaluationContext evaluationContext, long budget, @NonNull TimeUnit unit) {
+		return evaluateWithin(flagKey, defaultValue, evaluationContext, unit.toNanos(budget),
+				() -> getIntegerEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate an object flag within the time budget. If the flag isn't resolved in time, the default value is
+	 * returned with {@link #REASON_DEADLINE_EXCEEDED} and the resolution is completed in background, so the next
+	 * evaluations of the flag are served from memory.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param budget            The maximum time to wait for the resolution.
+	 * @param unit              The time unit of the budget.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public ProviderEvaluation<Value> getObjectEvaluation(@NonNull String flagKey, @NonNull Value defaultValue,
+			@Nullable EvaluationContext evaluationContext, long budget, @NonNull TimeUnit unit) {
+		return evaluateWithin(flagKey, defaultValue, evaluationContext, unit.toNanos(budget),
+				() -> getObjectEvaluation(flagKey, defaultValue, evaluationContext));
+	}
+
+	/**
+	 * Evaluate a string flag within the time budget. If the flag isn't resolved in time, the default value is
+	 * returned with {@link #REASON_DEADLINE_EXCEEDED} and the resolution is completed in background, so the next
+	 * evaluations of the flag are served from memory.
+	 *
+	 * @param flagKey           The key of the flag to evaluate.
+	 * @param defaultValue      The default value to return if the flag is not found or evaluation is failed.
+	 * @param evaluationContext The context for the evaluation.
+	 * @param budget            The maximum time to wait for the resolution.
+	 * @param unit              The time unit of the budget.
+	 * @return The evaluation result.
+	 */
+	@NonNull
+	public ProviderEvaluation<String> getStringEvaluation(@NonNull String flagKey, @NonNull String defaultValue,
+			@Nullable EvaluationContext evaluationContext, long budget, @NonNull TimeUnit unit) {
+		return evaluateWithin(flagKey, defaultValue, evaluationContext, unit.toNanos(budget),
+				() -> getStringEvaluation(flagKey, defaultValue, evaluationContext));
 	}
 
 	@Override
 	public void initialize(@Nullable EvaluationContext evaluationContext) {
+		initialize(evaluationContext, null);
+	}
+
+	/**
+	 * Initializes the provider and reports to the callback whether the client is loaded. The callback is not
+	 * called if the provider is shut down before.
+	 */
+	void initialize(@Nullable EvaluationContext evaluationContext, @Nullable ReadyCallback callback) {
+		Binding binding = lifecycle.getClient();
+		if (binding == null) {
+			return;
+		}
+		this.lastEvaluationContext = evaluationContext;
+		if (workloadRecorder != null && workloadRecorder.recordInitialize(evaluationContext)) {
+			flushWorkload();
+		}
+		KameleoonClient client = binding.client;
+		Binding bootstrapBinding = bootstrap(binding);
+		if (bootstrapBinding != null && callback != null) {
+			callback.onResult(true);
+		}
+		tracer.beginAsync(StartupPhase.READY_WAIT);
 		client.runWhenReady(result -> {
+			tracer.endAsync(StartupPhase.READY_WAIT);
+			// The provider may have been shut down while the client was loading
+			ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+			if (generation == null) {
+				return;
+			}
 			try {
 				if (result.get()) {
-					client.addData(DataConverter.toKameleoon(evaluationContext).toArray(new Data[0]));
-					eventHandler.publish(ProviderReady.INSTANCE);
+					Data[] data;
+					tracer.begin(StartupPhase.CONTEXT_CONVERSION);
+					try {
+						data = toKameleoonData(evaluationContext);
+					} finally {
+						tracer.end(StartupPhase.CONTEXT_CONVERSION);
+					}
+					tracer.begin(StartupPhase.ADD_DATA);
+					try {
+						client.addData(data);
+					} finally {
+						tracer.end(StartupPhase.ADD_DATA);
+					}
+					client.onUpdateConfiguration(this::onConfigurationUpdate);
+					if (bootstrapBinding != null && lifecycle.getClient() == bootstrapBinding) {
+						// The live configuration replaces the bundled one
+						lifecycle.swap(binding);
+					}
+					prefetch();
+					publishSnapshot();
+					refreshFlagObservers();
+					if (bootstrapBinding == null) {
+						lifecycle.markReady();
+						publishReady();
+						if (callback != null) {
+							callback.onResult(true);
+						}
+					}
+				} else if (bootstrapBinding == null && callback != null) {
+					callback.onResult(false);
 				}
 			} catch (TimeoutException e) {
-				eventHandler.publish(new ProviderError(e));
+				publishEvent(new ProviderError(e));
+				if (bootstrapBinding == null && callback != null) {
+					callback.onResult(false);
+				}
+			} finally {
+				generation.exit();
 			}
 		});
 	}
 
+	/**
+	 * Makes the provider evaluate flags with the bundled configuration until the client is ready, if it is
+	 * enabled with {@link KameleoonProviderConfig.Builder#bootstrap(String)}.
+	 *
+	 * @return the binding to the bundled configuration or {@code null} if the provider doesn't use it
+	 */
+	private Binding bootstrap(Binding binding) {
+		String assetName = providerConfig.getBootstrapAsset();
+		if (assetName == null || binding.client.isReady()) {
+			return null;
+		}
+		FeatureClient bundledClient;
+		try (Reader reader = new InputStreamReader(context.getAssets().open(assetName), StandardCharsets.UTF_8)) {
+			bundledClient = BundledFeatureClient.read(reader);
+		} catch (IOException ignored) {
+			// The provider waits for the live configuration
+			return null;
+		}
+		Binding bootstrapBinding = new Binding(binding.siteCode, binding.client,
+				new KameleoonResolver(bundledClient, providerConfig));
+		if (lifecycle.swap(bootstrapBinding) == null) {
+			return null;
+		}
+		lifecycle.markReady();
+		prefetch();
+		refreshFlagObservers();
+		publishReady();
+		return bootstrapBinding;
+	}
+
 	@Override
 	public void onContextSet(@Nullable EvaluationContext oldEvaluationContext,
 			@NonNull EvaluationContext evaluationContext) {
-		client.addData(DataConverter.toKameleoon(evaluationContext).toArray(new Data[0]));
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+		if (generation == null) {
+			return;
+		}
+		try {
+			this.lastEvaluationContext = evaluationContext;
+			if (workloadRecorder != null && workloadRecorder.recordContextSet(evaluationContext)) {
+				flushWorkload();
+			}
+			Set<DataDimension> changes = DependencyIndex.getChanges(oldEvaluationContext, evaluationContext);
+			generation.client.client.addData(toKameleoonData(evaluationContext));
+			onVisitorDataChanged(changes);
+		} finally {
+			generation.exit();
+		}
 	}
 
 	@Override
 	public void shutdown() {
-		KameleoonClientFactory.forget(siteCode, context);
-		client = null;
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.beginDrain();
+		if (generation == null) {
+			return;
+		}
+		if (lifecycleMonitor != null) {
+			lifecycleMonitor.unregister();
+		}
+		generation.awaitDrained(shutdownTimeoutNanos);
+		if (conversionBatcher != null) {
+			addBatchedConversions(generation.client.client);
+		}
+		lifecycle.stop();
+		// The worker may be paused and drops its postponed tasks on shutdown, so the last writes bypass it
+		if (usageLedger != null) {
+			ioExecutor.execute(this::writeUsage);
+		}
+		if (workloadRecorder != null) {
+			ioExecutor.execute(this::writeWorkload);
+		}
+		worker.shutdown();
+		events.shutdown();
+		flagObservers.clear();
+		if (snapshotWriter != null) {
+			try {
+				snapshotWriter.close();
+			} catch (IOException ignored) {
+				// Nothing to release
+			}
+		}
+		KameleoonClientFactory.forget(generation.client.siteCode, context);
+	}
+
+	/**
+	 * Switch the provider to a new Kameleoon client without re-registering it, for example to change the site
+	 * code or the client configuration at runtime. The new client is created and loaded in background, while
+	 * evaluations keep using the current client. Once the new client is ready, it replaces the current one
+	 * atomically: new evaluations use the new client and those in flight finish with the previous one, which
+	 * is released afterwards. The current evaluation context is added to the new client before the switch.
+	 * <p>
+	 * Switching to the site code of the current client is unsupported: the Kameleoon client factory keeps one
+	 * client per site code, so a second client can't be loaded while the current one is still in use.
+	 *
+	 * @param siteCode Site code, different from the current one
+	 * @param config   Kameleoon client configuration
+	 * @return The deferred result: {@code true} if the client has been switched, {@code false} if the site code
+	 * is the current one, the new client failed to load or the provider is shut down. It fails with
+	 * {@link ProviderNotReadyError} when client creation fails.
+	 */
+	@NonNull
+	public Deferred<Boolean> swapClient(@NonNull String siteCode, @NonNull KameleoonClientConfig config) {
+		return swapClient(siteCode, null, config);
+	}
+
+	/**
+	 * Switch the provider to a new Kameleoon client with the visitor code.
+	 *
+	 * @param siteCode    Site code
+	 * @param visitorCode Visitor code, {@code null} to let the client choose it
+	 * @param config      Kameleoon client configuration
+	 * @return The deferred result of the switch.
+	 * @see #swapClient(String, KameleoonClientConfig)
+	 */
+	@NonNull
+	public Deferred<Boolean> swapClient(@NonNull String siteCode, @Nullable String visitorCode,
+			@NonNull KameleoonClientConfig config) {
+		CompletableDeferred<Boolean> result = CompletableDeferredKt.CompletableDeferred((Job) null);
+		ioExecutor.execute(() -> {
+			Binding current = lifecycle.getClient();
+			if (current == null || siteCode.equals(current.siteCode)) {
+				// The factory would return the current client, which must stay alive while it is in use
+				result.complete(false);
+				return;
+			}
+			KameleoonClient client;
+			try {
+				client = visitorCode != null
+						? KameleoonClientFactory.create(siteCode, visitorCode, config, context)
+						: KameleoonClientFactory.create(siteCode, config, context);
+			} catch (KameleoonException.SiteCodeIsEmpty | VisitorCodeInvalid ex) {
+				result.completeExceptionally(new ProviderNotReadyError(ex.getMessage()));
+				return;
+			}
+			client.runWhenReady(ready -> {
+				try {
+					if (ready.get()) {
+						ioExecutor.execute(() -> completeSwap(siteCode, client, result));
+					} else {
+						KameleoonClientFactory.forget(siteCode, context);
+						result.complete(false);
+					}
+				} catch (TimeoutException e) {
+					KameleoonClientFactory.forget(siteCode, context);
+					result.completeExceptionally(e);
+				}
+			});
+		});
+		return result;
+	}
+
+	/**
+	 * Prepares the loaded client like {@link #initialize(EvaluationContext)} does, makes it current and releases
+	 * the previous client once the work in flight with it is finished.
+	 */
+	private void completeSwap(String siteCode, KameleoonClient client, CompletableDeferred<Boolean> result) {
+		EvaluationContext evaluationContext = lastEvaluationContext;
+		if (evaluationContext != null) {
+			client.addData(DataConverter.toKameleoon(evaluationContext).toArray(new Data[0]));
+		}
+		client.onUpdateConfiguration(this::onConfigurationUpdate);
+		Resolver resolver = new KameleoonResolver(client, providerConfig);
+		// Resolve the prefetched flags before the switch, so the first evaluations with the new client are fast
+		resolver.prefetch(prefetchFlags);
+		resolver.prefetch(new ArrayList<>(budgetedFlags));
+		ProviderLifecycle.Generation<Binding> previous = lifecycle.swap(new Binding(siteCode, client, resolver));
+		if (previous == null) {
+			KameleoonClientFactory.forget(siteCode, context);
+			result.complete(false);
+			return;
+		}
+		publishSnapshot();
+		refreshFlagObservers();
+		// The previous client is released only once the new one is current and nothing uses the previous one
+		previous.awaitDrained(shutdownTimeoutNanos);
+		if (!siteCode.equals(previous.client.siteCode)) {
+			KameleoonClientFactory.forget(previous.client.siteCode, context);
+		}
+		result.complete(true);
 	}
 
 	@NonNull
 	@Override
 	public Flow<OpenFeatureEvents> observe() {
-		return eventHandler.observe();
+		return events.observe();
+	}
+
+	/**
+	 * Observe a flag variable value with {@code null} as the default value.
+	 *
+	 * @param flagKey     The key of the flag to observe.
+	 * @param variableKey The key of the variable or {@code null} for the first variable of the variation.
+	 * @param type        The type of the value.
+	 * @param <T>         The type of the value.
+	 * @return The flow of the flag variable values.
+	 * @throws IllegalArgumentException if the type is not supported
+	 * @see #observeFlag(String, String, Class, Object)
+	 */
+	@NonNull
+	public <T> Flow<T> observeFlag(@NonNull String flagKey, @Nullable String variableKey, @NonNull Class<T> type) {
+		return observeFlag(flagKey, variableKey, type, null);
+	}
+
+	/**
+	 * Observe a flag variable value. The returned flow emits the default value first, then the resolved value,
+	 * and then only the values which differ from the previous one, after a configuration update or a context
+	 * change. If the flag variable can't be resolved to the requested type, the default value is emitted.
+	 * The flag variable is resolved on the background worker, never on the calling thread.
+	 * <p>
+	 * Observed flag variables are resolved again after every change until the provider is shut down.
+	 *
+	 * @param flagKey      The key of the flag to observe.
+	 * @param variableKey  The key of the variable or {@code null} for the first variable of the variation.
+	 * @param type         The type of the value: {@link Boolean}, {@link Integer}, {@link Double}, {@link String}
+	 *                     or {@link Value}.
+	 * @param defaultValue The value emitted until the flag variable is resolved and when it can't be resolved.
+	 * @param <T>          The type of the value.
+	 * @return The flow of the flag variable values.
+	 * @throws IllegalArgumentException if the type is not supported
+	 */
+	@NonNull
+	public <T> Flow<T> observeFlag(@NonNull String flagKey, @Nullable String variableKey, @NonNull Class<T> type,
+			@Nullable T defaultValue) {
+		if (!FlagObservers.isSupportedType(type)) {
+			throw new IllegalArgumentException("Unsupported type of flag value: " + type.getName());
+		}
+		if (lifecycle.getClient() == null) {
+			throw new IllegalStateException("The provider is shut down");
+		}
+		Flow<T> flow = flagObservers.observe(flagKey, variableKey, type, defaultValue);
+		refreshFlagObservers();
+		return flow;
 	}
 
 	@NonNull
 	@Override
 	public OpenFeatureEvents getProviderStatus() {
-		if (client == null) {
-			return ProviderStale.INSTANCE;
+		ProviderLifecycle.State<Binding> state = lifecycle.getState();
+		switch (state.phase) {
+			case READY:
+				return ProviderReady.INSTANCE;
+			case NOT_READY:
+				return state.generation.client.client.isReady() ? ProviderReady.INSTANCE : ProviderNotReady.INSTANCE;
+			default:
+				return ProviderStale.INSTANCE;
+		}
+	}
+
+	/**
+	 * Called by the Kameleoon client when the configuration is updated.
+	 */
+	private void onConfigurationUpdate() {
+		onResolutionInputChanged();
+	}
+
+	/**
+	 * Drops all the resolved flags after the configuration is changed and resolves the prefetched and observed
+	 * flags again.
+	 */
+	private void onResolutionInputChanged() {
+		Binding binding = lifecycle.getClient();
+		if (binding != null) {
+			binding.resolver.invalidate();
+		}
+		prefetch();
+		publishSnapshot();
+		refreshFlagObservers();
+	}
+
+	/**
+	 * Drops the resolved flags which depend on the changed visitor data and resolves the prefetched and observed
+	 * flags again.
+	 */
+	private void onVisitorDataChanged(Set<DataDimension> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		Binding binding = lifecycle.getClient();
+		if (binding != null) {
+			binding.resolver.invalidate(dependencyIndex.getAffectedFlags(changes));
+		}
+		prefetch();
+		publishSnapshot();
+		refreshFlagObservers();
+	}
+
+	/**
+	 * Updates the flows returned by {@link #observeFlag(String, String, Class)} on the background worker.
+	 */
+	private void refreshFlagObservers() {
+		if (!flagObservers.isEmpty()) {
+			worker.execute(REFRESH_OBSERVERS_TASK_KEY, tracked(binding -> flagObservers.refresh(binding.resolver)));
+		}
+	}
+
+	/**
+	 * Resolves the configured flag variables and those evaluated with a time budget on the background worker.
+	 * Pending prefetches are coalesced.
+	 */
+	private void prefetch() {
+		if (!prefetchFlags.isEmpty() || !budgetedFlags.isEmpty()) {
+			worker.execute(PREFETCH_TASK_KEY, tracked(binding -> {
+				binding.resolver.prefetch(prefetchFlags);
+				binding.resolver.prefetch(new ArrayList<>(budgetedFlags));
+			}));
+		}
+	}
+
+	/**
+	 * Publishes the prefetched flag variables for other processes on the background worker, after the pending
+	 * prefetch. Pending publications are coalesced.
+	 */
+	private void publishSnapshot() {
+		if (snapshotWriter != null) {
+			worker.execute(PUBLISH_SNAPSHOT_TASK_KEY, tracked(binding -> {
+				try {
+					snapshotWriter.write(SharedSnapshotCodec.encode(binding.resolver));
+				} catch (IOException ignored) {
+					// Other processes keep the previous snapshot
+				}
+			}));
+		}
+	}
+
+	/**
+	 * Converts the context to Kameleoon data. If conversion batching is enabled, conversions are passed to
+	 * the batcher instead of being returned.
+	 */
+	private Data[] toKameleoonData(EvaluationContext evaluationContext) {
+		List<Data> data = DataConverter.toKameleoon(evaluationContext);
+		if (conversionBatcher == null) {
+			return data.toArray(new Data[0]);
+		}
+		List<Data> otherData = new ArrayList<>(data.size());
+		int batched = 0;
+		for (Data item : data) {
+			if (item instanceof Conversion) {
+				batched = conversionBatcher.add((Conversion) item);
+				if (batched == 1) {
+					SharedScheduler.EXECUTOR.schedule(this::flushConversions,
+							providerConfig.getConversionBatchWindowMillis(), TimeUnit.MILLISECONDS);
+				}
+			} else {
+				otherData.add(item);
+			}
+		}
+		if (batched >= providerConfig.getConversionBatchMaxCount()) {
+			flushConversions();
+		}
+		return otherData.toArray(new Data[0]);
+	}
+
+	/**
+	 * Adds the batched conversions to the client on the background worker.
+	 */
+	private void flushConversions() {
+		worker.execute(ADD_CONVERSIONS_TASK_KEY,
+				tracked(binding -> onVisitorDataChanged(addBatchedConversions(binding.client))));
+	}
+
+	/**
+	 * Adds the batched conversions to the current client on the calling thread.
+	 */
+	private void addBatchedConversions() {
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+		if (generation == null) {
+			return;
+		}
+		try {
+			onVisitorDataChanged(addBatchedConversions(generation.client.client));
+		} finally {
+			generation.exit();
+		}
+	}
+
+	/**
+	 * Adds the batched conversions to the client.
+	 *
+	 * @return goals of the added conversions
+	 */
+	private Set<DataDimension> addBatchedConversions(KameleoonClient client) {
+		List<Conversion> conversions = conversionBatcher.drain();
+		if (conversions.isEmpty()) {
+			return Collections.emptySet();
+		}
+		client.addData(conversions.toArray(new Data[0]));
+		Set<DataDimension> goals = new HashSet<>();
+		for (Conversion conversion : conversions) {
+			goals.add(DataDimension.goal(conversion.getGoalId()));
+		}
+		return goals;
+	}
+
+	/**
+	 * Resolves a flag of a primitive type unless the provider is shut down.
+	 */
+	private <T> ProviderEvaluation<T> evaluate(String flagKey, T defaultValue, EvaluationContext evaluationContext) {
+		long startNanos = recorder != null || workloadRecorder != null ? System.nanoTime() : 0L;
+		ProviderEvaluation<T> evaluation;
+		ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+		if (generation == null) {
+			evaluation = makeShutdownEvaluation(defaultValue);
+		} else {
+			try {
+				if (evaluationTracer != null && evaluationTracer.sample()) {
+					EvaluationSpan.Builder span = new EvaluationSpan.Builder(flagKey);
+					evaluation = generation.client.resolver.resolve(flagKey, defaultValue, evaluationContext, span);
+					evaluationTracer.export(span, evaluation);
+				} else {
+					evaluation = generation.client.resolver.resolve(flagKey, defaultValue, evaluationContext);
+				}
+			} finally {
+				generation.exit();
+			}
+		}
+		return record(flagKey, evaluationContext, evaluation, startNanos);
+	}
+
+	/**
+	 * Makes the evaluation right away if the flag is resolved in memory, otherwise waits for it on the IO
+	 * dispatcher at most the budget. Flags evaluated with a budget are prefetched after every change of
+	 * the visitor data or the configuration, so they are rarely resolved on demand.
+	 */
+	private <T> ProviderEvaluation<T> evaluateWithin(String flagKey, T defaultValue,
+			EvaluationContext evaluationContext, long budgetNanos, AsyncEvaluator.Evaluation<T> evaluation) {
+		Binding binding = lifecycle.getClient();
+		String variableKey = VariableResolver.getVariableKey(evaluationContext);
+		if (binding == null || binding.resolver.isResolved(flagKey, variableKey)) {
+			return evaluation.evaluate();
+		}
+		if (budgetedFlags.add(FlagVariable.of(flagKey, variableKey))) {
+			prefetch();
+		}
+		if (!binding.resolver.isReady()) {
+			// The flag is prefetched once the client is ready
+			return makeDeadlineEvaluation(defaultValue);
+		}
+		try {
+			ProviderEvaluation<T> result = AsyncEvaluator.await(
+					asyncEvaluator.submit(flagKey, variableKey, defaultValue, evaluation), budgetNanos);
+			return result != null ? result : makeDeadlineEvaluation(defaultValue);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return makeDeadlineEvaluation(defaultValue);
+		}
+	}
+
+	/**
+	 * Passes the evaluation to the recorder and the usage ledger if they are enabled.
+	 */
+	private <T> ProviderEvaluation<T> record(String flagKey, EvaluationContext evaluationContext,
+			ProviderEvaluation<T> evaluation, long startNanos) {
+		if (recorder != null) {
+			recorder.record(flagKey, VariableResolver.getVariableKey(evaluationContext), evaluation.getVariant(),
+					evaluation.getReason(), evaluation.getErrorCode(), System.nanoTime() - startNanos);
+		}
+		if (usageLedger != null && usageLedger.increment(flagKey, evaluation.getVariant())) {
+			flushUsage();
+		}
+		if (workloadRecorder != null && workloadRecorder.recordEvaluation(flagKey, evaluationContext, evaluation,
+				startNanos, System.nanoTime() - startNanos)) {
+			flushWorkload();
+		}
+		return evaluation;
+	}
+
+	/**
+	 * Appends the recorded calls to the workload log on the background worker. Pending writes are coalesced.
+	 */
+	private void flushWorkload() {
+		worker.execute(FLUSH_WORKLOAD_TASK_KEY, this::writeWorkload);
+	}
+
+	private void writeWorkload() {
+		try {
+			workloadRecorder.flush();
+		} catch (IOException ignored) {
+			// Recording stops, the log can be replayed up to the failed write
+		}
+	}
+
+	/**
+	 * Writes the flag usage counts on the background worker. Pending writes are coalesced.
+	 */
+	private void flushUsage() {
+		worker.execute(FLUSH_USAGE_TASK_KEY, this::writeUsage);
+	}
+
+	private void writeUsage() {
+		try {
+			usageLedger.flush();
+		} catch (IOException ignored) {
+			// Counts are written again by the next flush
+		}
+	}
+
+	/**
+	 * Wraps background work which uses the client, so the shutdown waits for it and it is skipped
+	 * once the provider is shut down.
+	 */
+	private Runnable tracked(BindingTask task) {
+		return () -> {
+			ProviderLifecycle.Generation<Binding> generation = lifecycle.enter();
+			if (generation == null) {
+				return;
+			}
+			try {
+				task.run(generation.client);
+			} finally {
+				generation.exit();
+			}
+		};
+	}
+
+	/**
+	 * Makes the evaluation returned when the flag isn't resolved within the budget.
+	 */
+	private static <T> ProviderEvaluation<T> makeDeadlineEvaluation(T defaultValue) {
+		return new ProviderEvaluation<>(defaultValue, null, REASON_DEADLINE_EXCEEDED, null, null);
+	}
+
+	/**
+	 * Makes the evaluation returned after the provider is shut down.
+	 */
+	private static <T> ProviderEvaluation<T> makeShutdownEvaluation(T defaultValue) {
+		return new ProviderEvaluation<>(defaultValue, null, Reason.ERROR.toString(), ErrorCode.PROVIDER_NOT_READY,
+				"The provider is shut down");
+	}
+
+	/**
+	 * Publishes the event. It doesn't go through the background worker: the worker is paused while the
+	 * application is in background, and a provider initialized there must still report its state.
+	 */
+	private void publishEvent(OpenFeatureEvents event) {
+		events.publish(event);
+	}
+
+	/**
+	 * Publishes {@link ProviderReady} and completes the startup tracing.
+	 */
+	private void publishReady() {
+		tracer.begin(StartupPhase.EVENT_PUBLISH);
+		try {
+			publishEvent(ProviderReady.INSTANCE);
+		} finally {
+			tracer.end(StartupPhase.EVENT_PUBLISH);
+		}
+		tracer.markReady();
+	}
+
+	/**
+	 * Receives the result of {@link #initialize(EvaluationContext, ReadyCallback)}.
+	 */
+	interface ReadyCallback {
+		void onResult(boolean ready);
+	}
+
+	/**
+	 * Work which uses the current client.
+	 */
+	private interface BindingTask {
+		void run(Binding binding);
+	}
+
+	/**
+	 * Kameleoon client with its site code and the resolver of its flags, swapped together.
+	 */
+	private static final class Binding {
+		final String siteCode;
+		final KameleoonClient client;
+		final Resolver resolver;
+
+		Binding(String siteCode, KameleoonClient client, Resolver resolver) {
+			this.siteCode = siteCode;
+			this.client = client;
+			this.resolver = resolver;
 		}
-		return client.isReady() ? ProviderReady.INSTANCE : ProviderNotReady.INSTANCE;
 	}
 }
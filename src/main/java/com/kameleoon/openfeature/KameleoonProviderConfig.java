@@ -0,0 +1,498 @@
+package com.kameleoon.openfeature;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * KameleoonProviderConfig contains settings of {@link KameleoonProvider} itself. Settings of the underlying
+ * Kameleoon client are provided with {@link com.kameleoon.KameleoonClientConfig}.
+ */
+public final class KameleoonProviderConfig {
+
+	private final boolean pauseInBackground;
+	private final List<FlagVariable> prefetchFlags;
+	private final int circuitBreakerThreshold;
+	private final long circuitBreakerCooldownMillis;
+	private final boolean shareSnapshot;
+	private final long shutdownTimeoutMillis;
+	private final int evaluationRecorderCapacity;
+	private final long usageFlushIntervalMillis;
+	private final String bootstrapAsset;
+	private final long eventConflationWindowMillis;
+	private final long conversionBatchWindowMillis;
+	private final int conversionBatchMaxCount;
+	private final double traceSampleRate;
+	private final SpanExporter spanExporter;
+	private final Map<String, Set<DataDimension>> flagDependencies;
+	private final File workloadFile;
+
+	private KameleoonProviderConfig(Builder builder) {
+		this.pauseInBackground = builder.pauseInBackground;
+		this.prefetchFlags = Collections.unmodifiableList(new ArrayList<>(builder.prefetchFlags));
+		this.circuitBreakerThreshold = builder.circuitBreakerThreshold;
+		this.circuitBreakerCooldownMillis = builder.circuitBreakerCooldownMillis;
+		this.shareSnapshot = builder.shareSnapshot;
+		this.shutdownTimeoutMillis = builder.shutdownTimeoutMillis;
+		this.evaluationRecorderCapacity = builder.evaluationRecorderCapacity;
+		this.usageFlushIntervalMillis = builder.usageFlushIntervalMillis;
+		this.bootstrapAsset = builder.bootstrapAsset;
+		this.eventConflationWindowMillis = builder.eventConflationWindowMillis;
+		this.conversionBatchWindowMillis = builder.conversionBatchWindowMillis;
+		this.conversionBatchMaxCount = builder.conversionBatchMaxCount;
+		this.traceSampleRate = builder.traceSampleRate;
+		this.spanExporter = builder.spanExporter;
+		Map<String, Set<DataDimension>> flagDependencies = new HashMap<>();
+		for (Map.Entry<String, Set<DataDimension>> flag : builder.flagDependencies.entrySet()) {
+			flagDependencies.put(flag.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(flag.getValue())));
+		}
+		this.flagDependencies = Collections.unmodifiableMap(flagDependencies);
+		this.workloadFile = builder.workloadFile;
+	}
+
+	/**
+	 * Makes a configuration with default settings.
+	 *
+	 * @return default provider configuration
+	 */
+	public static KameleoonProviderConfig defaultConfig() {
+		return new Builder().build();
+	}
+
+	/**
+	 * Whether the provider pauses its own background work while the application is in background.
+	 *
+	 * @return {@code true} if background work is paused in background
+	 */
+	public boolean isPauseInBackground() {
+		return pauseInBackground;
+	}
+
+	/**
+	 * Flag variables which are resolved in background as soon as the provider is ready.
+	 *
+	 * @return unmodifiable list of flag variables
+	 */
+	public List<FlagVariable> getPrefetchFlags() {
+		return prefetchFlags;
+	}
+
+	/**
+	 * Number of consecutive unexpected failures of a flag after which its circuit is opened.
+	 *
+	 * @return failure threshold, {@code 0} if the circuit breaker is disabled
+	 */
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Time during which an opened circuit returns the default value without resolving the flag.
+	 *
+	 * @return cooldown in milliseconds
+	 */
+	public long getCircuitBreakerCooldownMillis() {
+		return circuitBreakerCooldownMillis;
+	}
+
+	/**
+	 * Whether the prefetched flag variables are published for {@link SharedSnapshotProvider} in other processes.
+	 *
+	 * @return {@code true} if the snapshot is shared
+	 */
+	public boolean isShareSnapshot() {
+		return shareSnapshot;
+	}
+
+	/**
+	 * Maximum time during which the shutdown waits for evaluations and background work in flight.
+	 *
+	 * @return timeout in milliseconds
+	 */
+	public long getShutdownTimeoutMillis() {
+		return shutdownTimeoutMillis;
+	}
+
+	/**
+	 * Number of last evaluations kept by the evaluation recorder.
+	 *
+	 * @return capacity of the recorder, {@code 0} if evaluations are not recorded
+	 */
+	public int getEvaluationRecorderCapacity() {
+		return evaluationRecorderCapacity;
+	}
+
+	/**
+	 * Interval between writes of the flag usage counts to the disk.
+	 *
+	 * @return interval in milliseconds, {@code 0} if the flag usage is not tracked
+	 */
+	public long getUsageFlushIntervalMillis() {
+		return usageFlushIntervalMillis;
+	}
+
+	/**
+	 * Name of the application asset with the configuration snapshot used until the Kameleoon client is ready.
+	 *
+	 * @return asset name, {@code null} if the provider doesn't bootstrap from a bundled configuration
+	 */
+	public String getBootstrapAsset() {
+		return bootstrapAsset;
+	}
+
+	/**
+	 * Time after a dispatched provider event during which further events are conflated.
+	 *
+	 * @return window in milliseconds, {@code 0} if events are not conflated
+	 */
+	public long getEventConflationWindowMillis() {
+		return eventConflationWindowMillis;
+	}
+
+	/**
+	 * Maximum time during which conversions from the evaluation context are aggregated before they are added
+	 * to the Kameleoon client.
+	 *
+	 * @return window in milliseconds, {@code 0} if conversions are not batched
+	 */
+	public long getConversionBatchWindowMillis() {
+		return conversionBatchWindowMillis;
+	}
+
+	/**
+	 * Number of conversions from the evaluation context after which the batch is added to the Kameleoon client
+	 * before the end of the window.
+	 *
+	 * @return maximum number of conversions in a batch, {@code 0} if conversions are not batched
+	 */
+	public int getConversionBatchMaxCount() {
+		return conversionBatchMaxCount;
+	}
+
+	/**
+	 * Share of evaluations which are traced.
+	 *
+	 * @return sample rate between {@code 0} and {@code 1}, {@code 0} if evaluations are not traced
+	 */
+	public double getTraceSampleRate() {
+		return traceSampleRate;
+	}
+
+	/**
+	 * Exporter receiving the spans of traced evaluations.
+	 *
+	 * @return span exporter, {@code null} if evaluations are not traced
+	 */
+	public SpanExporter getSpanExporter() {
+		return spanExporter;
+	}
+
+	/**
+	 * Visitor data dimensions the targeting of flags depends on.
+	 *
+	 * @return dimensions by flag key, flags which are not listed may depend on any visitor data
+	 */
+	public Map<String, Set<DataDimension>> getFlagDependencies() {
+		return flagDependencies;
+	}
+
+	/**
+	 * File the calls made to the provider are recorded to.
+	 *
+	 * @return workload log file, {@code null} if calls are not recorded
+	 */
+	public File getWorkloadFile() {
+		return workloadFile;
+	}
+
+	/**
+	 * Builder for {@link KameleoonProviderConfig}.
+	 */
+	public static final class Builder {
+
+		private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 500;
+
+		private boolean pauseInBackground;
+		private final List<FlagVariable> prefetchFlags = new ArrayList<>();
+		private int circuitBreakerThreshold;
+		private long circuitBreakerCooldownMillis;
+		private boolean shareSnapshot;
+		private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+		private int evaluationRecorderCapacity;
+		private long usageFlushIntervalMillis;
+		private String bootstrapAsset;
+		private long eventConflationWindowMillis = EventDispatcher.DEFAULT_WINDOW_MILLIS;
+		private long conversionBatchWindowMillis;
+		private int conversionBatchMaxCount;
+		private double traceSampleRate;
+		private SpanExporter spanExporter;
+		private final Map<String, Set<DataDimension>> flagDependencies = new HashMap<>();
+		private File workloadFile;
+
+		/**
+		 * Pauses the provider background work (prefetching, flag observers and other deferred tasks) while the
+		 * application is in background. Postponed work is executed once the application returns to foreground.
+		 * Provider events are still published in background. Disabled by default.
+		 *
+		 * @param pauseInBackground {@code true} to pause background work in background
+		 * @return the builder
+		 */
+		public Builder pauseInBackground(boolean pauseInBackground) {
+			this.pauseInBackground = pauseInBackground;
+			return this;
+		}
+
+		/**
+		 * Adds flag variables which are resolved on a background thread once the provider is ready and again
+		 * after the visitor data or the configuration is changed. Their results are kept in memory, so the first
+		 * evaluations of these flags don't have to resolve them on the calling thread. Flags which aren't listed
+		 * are resolved by the client on every evaluation, which tracks their exposure and applies the current
+		 * targeting.
+		 *
+		 * @param flagVariables flag variables to prefetch
+		 * @return the builder
+		 */
+		public Builder prefetch(List<FlagVariable> flagVariables) {
+			if (flagVariables != null) {
+				for (FlagVariable flagVariable : flagVariables) {
+					if (flagVariable != null) {
+						prefetchFlags.add(flagVariable);
+					}
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Adds flag variables which are resolved on a background thread once the provider is ready.
+		 *
+		 * @param flagVariables flag variables to prefetch
+		 * @return the builder
+		 * @see #prefetch(List)
+		 */
+		public Builder prefetch(FlagVariable... flagVariables) {
+			return prefetch(Arrays.asList(flagVariables));
+		}
+
+		/**
+		 * Enables the per-flag circuit breaker. After {@code failureThreshold} consecutive unexpected failures
+		 * ({@link dev.openfeature.sdk.exceptions.ErrorCode#GENERAL}) of a flag, its evaluations return the default
+		 * value with the last failure for {@code cooldownMillis}. Then a single probe evaluation is let through to
+		 * check whether the flag has recovered. Disabled by default.
+		 *
+		 * @param failureThreshold number of consecutive failures which opens the circuit, {@code 0} to disable
+		 * @param cooldownMillis   time in milliseconds before the probe evaluation
+		 * @return the builder
+		 */
+		public Builder circuitBreaker(int failureThreshold, long cooldownMillis) {
+			if (failureThreshold < 0 || cooldownMillis < 0) {
+				throw new IllegalArgumentException("Circuit breaker threshold and cooldown must not be negative");
+			}
+			this.circuitBreakerThreshold = failureThreshold;
+			this.circuitBreakerCooldownMillis = cooldownMillis;
+			return this;
+		}
+
+		/**
+		 * Publishes the prefetched flag variables to a memory-mapped file, so {@link SharedSnapshotProvider}
+		 * instances in other processes of the application evaluate flags without creating their own Kameleoon
+		 * client. The snapshot is published once the provider is ready and again after the visitor data or the
+		 * configuration is changed. It contains only the flag variables listed with {@link #prefetch(List)} and
+		 * those evaluated with a time budget, so {@link #build()} fails if none are listed. Enable it only in
+		 * the main process. Disabled by default.
+		 *
+		 * @param shareSnapshot {@code true} to publish the snapshot
+		 * @return the builder
+		 * @see #prefetch(List)
+		 */
+		public Builder shareSnapshot(boolean shareSnapshot) {
+			this.shareSnapshot = shareSnapshot;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum time during which {@link KameleoonProvider#shutdown()} waits for evaluations and
+		 * background work in flight before the client is released. Evaluations started after the shutdown
+		 * return the default value. The default is 500 milliseconds.
+		 *
+		 * @param timeoutMillis timeout in milliseconds, {@code 0} to not wait
+		 * @return the builder
+		 */
+		public Builder shutdownTimeout(long timeoutMillis) {
+			if (timeoutMillis < 0) {
+				throw new IllegalArgumentException("Shutdown timeout must not be negative");
+			}
+			this.shutdownTimeoutMillis = timeoutMillis;
+			return this;
+		}
+
+		/**
+		 * Keeps the last evaluations (flag key, variable key, variant, reason, error code, latency and thread)
+		 * in memory, so they can be attached to bug reports with {@link KameleoonProvider#dumpEvaluations()}.
+		 * Records are written to a preallocated ring buffer without locks and allocations. Disabled by default.
+		 *
+		 * @param capacity number of kept evaluations, rounded up to a power of two, {@code 0} to disable
+		 * @return the builder
+		 */
+		public Builder recordEvaluations(int capacity) {
+			if (capacity < 0) {
+				throw new IllegalArgumentException("Evaluation recorder capacity must not be negative");
+			}
+			this.evaluationRecorderCapacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Counts evaluations per flag and variant to find unused and most used flags. Counts are written to
+		 * the application files directory on the background worker at most once per {@code flushIntervalMillis}
+		 * and on shutdown, so they are kept across restarts. They are returned by
+		 * {@link KameleoonProvider#getFlagUsage()}. Disabled by default.
+		 *
+		 * @param flushIntervalMillis minimum interval between writes in milliseconds, {@code 0} to disable
+		 * @return the builder
+		 */
+		public Builder trackUsage(long flushIntervalMillis) {
+			if (flushIntervalMillis < 0) {
+				throw new IllegalArgumentException("Usage flush interval must not be negative");
+			}
+			this.usageFlushIntervalMillis = flushIntervalMillis;
+			return this;
+		}
+
+		/**
+		 * Evaluates flags with a configuration snapshot shipped in the application assets until the Kameleoon
+		 * client has fetched the live configuration, e.g. on the first launch without network. The provider
+		 * reports {@link dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady} as soon as the snapshot is
+		 * loaded, and the live configuration replaces it once the client is ready. The snapshot contains the
+		 * variation of each flag with its variables:
+		 * <pre>
+		 * { "featureFlags": { "flagKey": { "variation": "on", "variables": { "variableKey": 5 } } } }
+		 * </pre>
+		 * Not used by default.
+		 *
+		 * @param assetName name of the asset, {@code null} to not bootstrap
+		 * @return the builder
+		 */
+		public Builder bootstrap(String assetName) {
+			this.bootstrapAsset = assetName;
+			return this;
+		}
+
+		/**
+		 * Sets the window during which bursts of provider events are conflated. An event which follows a quiet
+		 * period is dispatched right away; events published within the window after it are delivered together
+		 * when the window ends, keeping only the latest event of each type. The default is 50 milliseconds.
+		 *
+		 * @param windowMillis window in milliseconds, {@code 0} to dispatch every event
+		 * @return the builder
+		 */
+		public Builder eventConflationWindow(long windowMillis) {
+			if (windowMillis < 0) {
+				throw new IllegalArgumentException("Event conflation window must not be negative");
+			}
+			this.eventConflationWindowMillis = windowMillis;
+			return this;
+		}
+
+		/**
+		 * Aggregates conversions passed with {@link com.kameleoon.openfeature.dto.types.DataType#CONVERSION} in
+		 * the evaluation context before they are added to the Kameleoon client. Conversions of the same goal are
+		 * added as one conversion with the total revenue. A batch is added when {@code windowMillis} have passed
+		 * since its first conversion, when it contains {@code maxCount} conversions, when the application goes
+		 * to background and on shutdown. Disabled by default.
+		 *
+		 * @param windowMillis maximum time in milliseconds a conversion waits, {@code 0} to disable
+		 * @param maxCount     maximum number of conversions in a batch
+		 * @return the builder
+		 */
+		public Builder batchConversions(long windowMillis, int maxCount) {
+			if (windowMillis < 0 || maxCount < 0 || (windowMillis > 0 && maxCount == 0)) {
+				throw new IllegalArgumentException(
+						"Conversion batch window must not be negative and batches must hold at least one conversion");
+			}
+			this.conversionBatchWindowMillis = windowMillis;
+			this.conversionBatchMaxCount = windowMillis > 0 ? maxCount : 0;
+			return this;
+		}
+
+		/**
+		 * Traces a sample of the evaluations: each traced evaluation produces an {@link EvaluationSpan} with
+		 * the time spent in each {@link SpanPhase}, which is passed to {@code exporter} on a background
+		 * thread. Evaluations which are not sampled are not measured. Disabled by default.
+		 *
+		 * @param sampleRate share of traced evaluations between {@code 0} and {@code 1}, {@code 0} to disable
+		 * @param exporter   exporter receiving the spans
+		 * @return the builder
+		 */
+		public Builder traceEvaluations(double sampleRate, SpanExporter exporter) {
+			if (!(sampleRate >= 0 && sampleRate <= 1) || (sampleRate > 0 && exporter == null)) {
+				throw new IllegalArgumentException(
+						"Trace sample rate must be between 0 and 1 and sampled spans need an exporter");
+			}
+			this.traceSampleRate = sampleRate;
+			this.spanExporter = sampleRate > 0 ? exporter : null;
+			return this;
+		}
+
+		/**
+		 * Declares the visitor data the targeting of a flag depends on. When the evaluation context is changed,
+		 * the prefetched variables of the flag are kept unless data of one of these dimensions is changed.
+		 * Prefetched flags without declared dependencies are resolved again after every change of the visitor
+		 * data. Changes of the configuration always invalidate every flag. Flags which aren't prefetched are
+		 * resolved by the client on every evaluation, so their dependencies make no difference.
+		 *
+		 * @param flagKey    key of the flag
+		 * @param dimensions data dimensions the flag depends on, none if the flag doesn't depend on visitor data
+		 * @return the builder
+		 */
+		public Builder dependsOn(String flagKey, DataDimension... dimensions) {
+			if (flagKey == null) {
+				throw new IllegalArgumentException("Flag key must not be null");
+			}
+			Set<DataDimension> flagDimensions = flagDependencies.get(flagKey);
+			if (flagDimensions == null) {
+				flagDimensions = new LinkedHashSet<>();
+				flagDependencies.put(flagKey, flagDimensions);
+			}
+			for (DataDimension dimension : dimensions) {
+				if (dimension != null) {
+					flagDimensions.add(dimension);
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Records the calls of {@code initialize}, {@code onContextSet} and the {@code get*Evaluation} methods,
+		 * with their flag keys, contexts, results and timings, to a compact binary log which can be replayed to
+		 * reproduce the workload. The file is replaced when the provider starts recording and is written in
+		 * background. Recording stops after a failed write, without failing the recorded calls. Meant for
+		 * benchmarking sessions, disabled by default.
+		 *
+		 * @param file workload log file, {@code null} to disable
+		 * @return the builder
+		 */
+		public Builder recordWorkload(File file) {
+			this.workloadFile = file;
+			return this;
+		}
+
+		/**
+		 * Builds the configuration.
+		 *
+		 * @return provider configuration
+		 */
+		public KameleoonProviderConfig build() {
+			if (shareSnapshot && prefetchFlags.isEmpty()) {
+				throw new IllegalArgumentException("A shared snapshot requires prefetched flag variables");
+			}
+			return new KameleoonProviderConfig(this);
+		}
+	}
+}
@@ -2,31 +2,145 @@ package com.kameleoon.openfeature;
 
 import com.kameleoon.KameleoonClient;
 import com.kameleoon.KameleoonException;
-import com.kameleoon.openfeature.dto.types.DataType;
 import com.kameleoon.types.Variable;
 import com.kameleoon.types.Variation;
-import dev.openfeature.sdk.*;
-
 import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * KameleoonResolver makes evalutions based on provided data, conforms to Resolver interface
  */
-class KameleoonResolver implements Resolver {
+class KameleoonResolver extends VariableResolver {
 
-	private final KameleoonClient client;
+	private final FeatureClient client;
+	private final VariableCache cache = new VariableCache();
+	// Flags missing from the configuration, which only a configuration update changes
+	private final VariableCache missingFlags = new VariableCache();
+	private final CircuitBreakers circuitBreakers;
 
 	KameleoonResolver(KameleoonClient client) {
+		this(client, KameleoonProviderConfig.defaultConfig());
+	}
+
+	KameleoonResolver(KameleoonClient client, KameleoonProviderConfig config) {
+		this(new FeatureClient.Adapter(client), config);
+	}
+
+	KameleoonResolver(FeatureClient client, KameleoonProviderConfig config) {
 		this.client = client;
+		this.circuitBreakers = config.getCircuitBreakerThreshold() > 0
+				? new CircuitBreakers(config.getCircuitBreakerThreshold(),
+				TimeUnit.MILLISECONDS.toNanos(config.getCircuitBreakerCooldownMillis()))
+				: null;
+	}
+
+	@Override
+	public void invalidate() {
+		cache.invalidate();
+		missingFlags.invalidate();
+	}
+
+	@Override
+	public void invalidate(VariableCache.FlagFilter affectedFlags) {
+		cache.invalidate(affectedFlags);
+	}
+
+	@Override
+	public boolean isResolved(String flagKey, String variableKey) {
+		return cache.get(flagKey, variableKey) != null || missingFlags.get(flagKey, variableKey) != null;
+	}
+
+	@Override
+	public void forEachResolved(VariableCache.Visitor visitor) {
+		cache.forEach(visitor);
+	}
+
+	@Override
+	public Map<String, CircuitState> getCircuitStates() {
+		return circuitBreakers != null ? circuitBreakers.getStates() : Collections.<String, CircuitState>emptyMap();
+	}
+
+	@Override
+	public boolean isReady() {
+		return client.isReady();
 	}
 
 	/**
-	 * Main method for getting resolution details based on provided data.
+	 * Returns the prefetched variable or resolves it with the client. Variables resolved on demand are not
+	 * cached, so every evaluation of a flag which isn't prefetched calls the client, which tracks the exposure
+	 * and applies the current targeting. Flags missing from the configuration of the ready client are the
+	 * exception: their error is kept until the configuration changes, so repeated misses don't allocate.
 	 */
 	@Override
-	public <T> ProviderEvaluation<T> resolve(String flagKey, T defaultValue, EvaluationContext context) {
+	ResolvedVariable getResolvedVariable(String flagKey, String variableKey) {
+		ResolvedVariable resolved = cache.get(flagKey, variableKey);
+		if (resolved != null) {
+			return resolved;
+		}
+		resolved = missingFlags.get(flagKey, variableKey);
+		if (resolved != null) {
+			return resolved;
+		}
+		long version = missingFlags.getVersion();
+		resolved = resolveGuarded(flagKey, variableKey);
+		if (resolved.errorCode == ErrorCode.FLAG_NOT_FOUND && resolved.variant == null && client.isReady()) {
+			missingFlags.put(flagKey, variableKey, resolved, version);
+		}
+		return resolved;
+	}
+
+	/**
+	 * Resolves the flag variables and keeps them in memory until the next invalidation. Only results of the
+	 * ready client are cached.
+	 */
+	@Override
+	public void prefetch(List<FlagVariable> flagVariables) {
+		for (FlagVariable flagVariable : flagVariables) {
+			String flagKey = flagVariable.getFlagKey();
+			String variableKey = flagVariable.getVariableKey();
+			if (cache.get(flagKey, variableKey) != null) {
+				continue;
+			}
+			long version = cache.getVersion();
+			ResolvedVariable resolved = resolveGuarded(flagKey, variableKey);
+			if (resolved.errorCode != ErrorCode.GENERAL && client.isReady()) {
+				resolved.warmUp();
+				cache.put(flagKey, variableKey, resolved, version);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the variable with the client. Unexpected errors are counted by the circuit breaker of the flag if
+	 * it is enabled.
+	 */
+	private ResolvedVariable resolveGuarded(String flagKey, String variableKey) {
+		CircuitBreaker breaker = circuitBreakers != null ? circuitBreakers.get(flagKey) : null;
+		if (breaker != null) {
+			ResolvedVariable failure = breaker.acquire(System.nanoTime());
+			if (failure != null) {
+				return failure;
+			}
+		}
+		ResolvedVariable resolved = resolveVariable(flagKey, variableKey);
+		if (resolved.errorCode == ErrorCode.GENERAL) {
+			if (circuitBreakers != null) {
+				if (breaker == null) {
+					breaker = circuitBreakers.getOrCreate(flagKey);
+				}
+				breaker.onFailure(resolved, System.nanoTime());
+			}
+		} else if (breaker != null) {
+			breaker.onSuccess();
+		}
+		return resolved;
+	}
+
+	private ResolvedVariable resolveVariable(String flagKey, String requestedVariableKey) {
 		try {
 			// Get a variation (main SDK method)
 			Variation variation = client.getVariation(flagKey);
@@ -37,7 +151,9 @@ class KameleoonResolver implements Resolver {
 			// Get variableKey if it's provided in context or any first in variation.
 			// It's the responsibility of the client to have only one variable per variation if
 			// variableKey is not provided.
-			String variableKey = getVariableKey(context, variation.getVariables());
+			String variableKey = requestedVariableKey != null
+					? requestedVariableKey
+					: getFirstVariableKey(variation.getVariables());
 
 			// Try to get variable by variable key
 			Variable variable = variation.getVariables().get(variableKey);
@@ -46,33 +162,23 @@ class KameleoonResolver implements Resolver {
 			Object value = variable != null ? variable.getValue() : null;
 
 			if (variableKey == null || value == null) {
-				return makeResolutionDetails(defaultValue, variant, ErrorCode.FLAG_NOT_FOUND,
+				return ResolvedVariable.ofError(variant, ErrorCode.FLAG_NOT_FOUND,
 						makeErrorDescription(variant, variableKey));
 			}
-
-			// Check if the variable value has a required type
-			if (!(defaultValue instanceof Value || value.getClass().equals(defaultValue.getClass()))) {
-				return makeResolutionDetails(defaultValue, variant, ErrorCode.TYPE_MISMATCH,
-						"The type of value received is different from the requested value.");
-			}
-
-			@SuppressWarnings("unchecked")
-			T typedValue = (T) value;
-			return makeResolutionDetails(typedValue, variant);
+			return ResolvedVariable.ofValue(variant, value);
 		} catch (KameleoonException.FeatureException exception) {
-			return makeResolutionDetails(defaultValue, null, ErrorCode.FLAG_NOT_FOUND, exception.getMessage());
+			return ResolvedVariable.ofError(null, ErrorCode.FLAG_NOT_FOUND, exception.getMessage());
 		} catch (Exception exception) {
-			return makeResolutionDetails(defaultValue, null, ErrorCode.GENERAL, exception.getMessage());
+			return ResolvedVariable.ofError(null, ErrorCode.GENERAL, exception.getMessage());
 		}
 	}
 
 	/**
-	 * Helper method to get the variable key from the context or variables map.
+	 * Helper method to get the first variable key from the variables map.
 	 */
-	private static String getVariableKey(EvaluationContext context, Map<String, Variable> variables) {
-		Value variableKeyValue = context != null ? context.getValue(DataType.VARIABLE_KEY.getValue()) : null;
-		String variableKey = variableKeyValue != null ? variableKeyValue.asString() : null;
-		if (variableKey == null && !variables.isEmpty()) {
+	private static String getFirstVariableKey(Map<String, Variable> variables) {
+		String variableKey = null;
+		if (!variables.isEmpty()) {
 			Iterator<String> iterator = variables.keySet().iterator();
 			variableKey = iterator.hasNext() ? iterator.next() : null;
 		}
@@ -80,26 +186,12 @@ class KameleoonResolver implements Resolver {
 	}
 
 	/**
-	 * Helper method to create a ResolutionDetails object.
-	 */
-	private static <T> ProviderEvaluation<T> makeResolutionDetails(T value, String variant) {
-		return new ProviderEvaluation<T>(value, variant, Reason.STATIC.toString(), null, null);
-	}
-
-	/**
-	 * Helper method to create a ResolutionDetails object.
-	 */
-	private static <T> ProviderEvaluation<T> makeResolutionDetails(T value, String variant, ErrorCode errorCode,
-			String errorMessage) {
-		return new ProviderEvaluation<T>(value, variant, Reason.STATIC.toString(), errorCode, errorMessage);
-	}
-
-	/**
-	 * Helper method to create an error description.
+	 * Helper method to create an error description. The description is created once per resolved variable,
+	 * so repeated misses of cached variables don't build it again.
 	 */
 	private static String makeErrorDescription(String variant, String variableKey) {
 		return (variableKey == null || variableKey.isEmpty())
-				? String.format("The variation '%s' has no variables", variant)
-				: String.format("The value for provided variable key '%s' isn't found in variation '%s'", variableKey, variant);
+				? "The variation '" + variant + "' has no variables"
+				: "The value for provided variable key '" + variableKey + "' isn't found in variation '" + variant + "'";
 	}
 }
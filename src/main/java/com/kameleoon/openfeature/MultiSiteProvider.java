@@ -0,0 +1,378 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FeatureProvider;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.ProviderMetadata;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.events.OpenFeatureEvents;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderError;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderNotReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderStale;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import dev.openfeature.sdk.exceptions.OpenFeatureError.ProviderNotReadyError;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import kotlinx.coroutines.Dispatchers;
+import kotlinx.coroutines.ExecutorsKt;
+import kotlinx.coroutines.flow.Flow;
+
+/**
+ * The {@link MultiSiteProvider} is an OpenFeature {@link FeatureProvider} which combines the
+ * {@link KameleoonProvider} instances of several site codes. Each flag key is routed to one site, by the flag
+ * key itself, by its prefix or to the default site.
+ * <p>
+ * The sites are initialized in parallel, so the startup takes about as long as the slowest site instead of
+ * the sum of all sites. {@link ProviderReady} is published once all the required sites are ready; optional
+ * sites become usable whenever they are loaded.
+ */
+public class MultiSiteProvider implements FeatureProvider {
+
+	private static final ProviderMetadata METADATA = () -> "Kameleoon Multi-Site Provider";
+
+	private final List<Site> sites;
+	private final Map<String, KameleoonProvider> providers;
+	private final SiteRouter<Site> router;
+	private final Executor initExecutor;
+	private final EventDispatcher events = new EventDispatcher();
+	private final AtomicBoolean initialized = new AtomicBoolean();
+	private final AtomicBoolean stopped = new AtomicBoolean();
+	private final AtomicInteger pendingRequired = new AtomicInteger();
+
+	private MultiSiteProvider(Builder builder) {
+		this(builder, ExecutorsKt.asExecutor(Dispatchers.getIO()));
+	}
+
+	MultiSiteProvider(Builder builder, Executor initExecutor) {
+		Map<String, Site> sitesByCode = new LinkedHashMap<>();
+		Map<String, KameleoonProvider> providers = new LinkedHashMap<>();
+		for (Map.Entry<String, KameleoonProvider> entry : builder.providers.entrySet()) {
+			String siteCode = entry.getKey();
+			sitesByCode.put(siteCode, new Site(siteCode, entry.getValue(), builder.requiredSites.contains(siteCode)));
+			providers.put(siteCode, entry.getValue());
+		}
+		this.sites = new ArrayList<>(sitesByCode.values());
+		this.providers = providers;
+		this.router = new SiteRouter<>(resolveSites(builder.flagRoutes, sitesByCode),
+				resolveSites(builder.prefixRoutes, sitesByCode),
+				builder.defaultSiteCode != null ? sitesByCode.get(builder.defaultSiteCode) : null);
+		this.initExecutor = initExecutor;
+	}
+
+	private static Map<String, Site> resolveSites(Map<String, String> routes, Map<String, Site> sitesByCode) {
+		Map<String, Site> resolved = new HashMap<>();
+		for (Map.Entry<String, String> route : routes.entrySet()) {
+			resolved.put(route.getKey(), sitesByCode.get(route.getValue()));
+		}
+		return resolved;
+	}
+
+	/**
+	 * Get the provider of the site, for example to use its Kameleoon client or its own methods.
+	 *
+	 * @param siteCode Site code
+	 * @return The provider of the site or {@code null} if the site isn't added.
+	 */
+	@Nullable
+	public KameleoonProvider getProvider(@NonNull String siteCode) {
+		return providers.get(siteCode);
+	}
+
+	/**
+	 * Get the site code which evaluates the flag.
+	 *
+	 * @param flagKey The key of the flag.
+	 * @return The site code or {@code null} if the flag isn't routed to any site.
+	 */
+	@Nullable
+	public String getSiteCode(@NonNull String flagKey) {
+		Site site = router.route(flagKey);
+		return site != null ? site.siteCode : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NonNull
+	@Override
+	public List<Hook<?>> getHooks() {
+		return new ArrayList<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NonNull
+	@Override
+	public ProviderMetadata getMetadata() {
+		return METADATA;
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Boolean> getBooleanEvaluation(@NonNull String flagKey, boolean defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		Site site = router.route(flagKey);
+		return site != null
+				? site.provider.getBooleanEvaluation(flagKey, defaultValue, evaluationContext)
+				: makeNotRoutedEvaluation(flagKey, defaultValue);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Double> getDoubleEvaluation(@NonNull String flagKey, double defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		Site site = router.route(flagKey);
+		return site != null
+				? site.provider.getDoubleEvaluation(flagKey, defaultValue, evaluationContext)
+				: makeNotRoutedEvaluation(flagKey, defaultValue);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Integer> getIntegerEvaluation(@NonNull String flagKey, int defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		Site site = router.route(flagKey);
+		return site != null
+				? site.provider.getIntegerEvaluation(flagKey, defaultValue, evaluationContext)
+				: makeNotRoutedEvaluation(flagKey, defaultValue);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Value> getObjectEvaluation(@NonNull String flagKey, @NonNull Value defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		Site site = router.route(flagKey);
+		return site != null
+				? site.provider.getObjectEvaluation(flagKey, defaultValue, evaluationContext)
+				: makeNotRoutedEvaluation(flagKey, defaultValue);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<String> getStringEvaluation(@NonNull String flagKey, @NonNull String defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		Site site = router.route(flagKey);
+		return site != null
+				? site.provider.getStringEvaluation(flagKey, defaultValue, evaluationContext)
+				: makeNotRoutedEvaluation(flagKey, defaultValue);
+	}
+
+	/**
+	 * Initializes all the sites in parallel. {@link ProviderReady} is published once the required sites are
+	 * ready, and {@link ProviderError} if one of them fails to load.
+	 */
+	@Override
+	public void initialize(@Nullable EvaluationContext evaluationContext) {
+		if (!initialized.compareAndSet(false, true)) {
+			return;
+		}
+		int required = 0;
+		for (Site site : sites) {
+			if (site.required) {
+				required++;
+			}
+		}
+		pendingRequired.set(required);
+		if (required == 0) {
+			events.publish(ProviderReady.INSTANCE);
+		}
+		for (Site site : sites) {
+			initExecutor.execute(() -> site.provider.initialize(evaluationContext, ready -> onSiteResult(site, ready)));
+		}
+	}
+
+	@Override
+	public void onContextSet(@Nullable EvaluationContext oldEvaluationContext,
+			@NonNull EvaluationContext evaluationContext) {
+		for (Site site : sites) {
+			site.provider.onContextSet(oldEvaluationContext, evaluationContext);
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		if (!stopped.compareAndSet(false, true)) {
+			return;
+		}
+		for (Site site : sites) {
+			site.provider.shutdown();
+		}
+		events.shutdown();
+	}
+
+	@NonNull
+	@Override
+	public Flow<OpenFeatureEvents> observe() {
+		return events.observe();
+	}
+
+	@NonNull
+	@Override
+	public OpenFeatureEvents getProviderStatus() {
+		if (stopped.get()) {
+			return ProviderStale.INSTANCE;
+		}
+		for (Site site : sites) {
+			if (site.required && !(site.provider.getProviderStatus() instanceof ProviderReady)) {
+				return ProviderNotReady.INSTANCE;
+			}
+		}
+		return ProviderReady.INSTANCE;
+	}
+
+	/**
+	 * Called when a site is loaded or fails to load.
+	 */
+	private void onSiteResult(Site site, boolean ready) {
+		if (stopped.get() || !site.required) {
+			return;
+		}
+		if (!ready) {
+			events.publish(new ProviderError(
+					new ProviderNotReadyError("Kameleoon client of site " + site.siteCode + " failed to load")));
+		} else if (pendingRequired.decrementAndGet() == 0) {
+			events.publish(ProviderReady.INSTANCE);
+		}
+	}
+
+	/**
+	 * Makes the evaluation of a flag which isn't routed to any site.
+	 */
+	private static <T> ProviderEvaluation<T> makeNotRoutedEvaluation(String flagKey, T defaultValue) {
+		return new ProviderEvaluation<>(defaultValue, null, Reason.ERROR.toString(), ErrorCode.FLAG_NOT_FOUND,
+				"No site is routed for the flag " + flagKey);
+	}
+
+	/**
+	 * Site code with its provider.
+	 */
+	private static final class Site {
+		final String siteCode;
+		final KameleoonProvider provider;
+		final boolean required;
+
+		Site(String siteCode, KameleoonProvider provider, boolean required) {
+			this.siteCode = siteCode;
+			this.provider = provider;
+			this.required = required;
+		}
+	}
+
+	/**
+	 * Builder for {@link MultiSiteProvider}.
+	 */
+	public static final class Builder {
+
+		private final Map<String, KameleoonProvider> providers = new LinkedHashMap<>();
+		private final List<String> requiredSites = new ArrayList<>();
+		private final Map<String, String> flagRoutes = new HashMap<>();
+		private final Map<String, String> prefixRoutes = new HashMap<>();
+		private String defaultSiteCode;
+
+		/**
+		 * Adds a required site: {@link ProviderReady} isn't published until it is ready.
+		 *
+		 * @param siteCode Site code
+		 * @param provider Provider of the site
+		 * @return the builder
+		 */
+		public Builder site(String siteCode, KameleoonProvider provider) {
+			return site(siteCode, provider, true);
+		}
+
+		/**
+		 * Adds a site.
+		 *
+		 * @param siteCode Site code
+		 * @param provider Provider of the site
+		 * @param required {@code false} if {@link ProviderReady} can be published before the site is ready
+		 * @return the builder
+		 */
+		public Builder site(String siteCode, KameleoonProvider provider, boolean required) {
+			if (siteCode == null || provider == null) {
+				throw new IllegalArgumentException("Site code and provider must not be null");
+			}
+			providers.put(siteCode, provider);
+			requiredSites.remove(siteCode);
+			if (required) {
+				requiredSites.add(siteCode);
+			}
+			return this;
+		}
+
+		/**
+		 * Routes the flag to the site. Flags routed explicitly take precedence over prefixes.
+		 *
+		 * @param flagKey  The key of the flag
+		 * @param siteCode Site code
+		 * @return the builder
+		 */
+		public Builder routeFlag(String flagKey, String siteCode) {
+			flagRoutes.put(flagKey, siteCode);
+			return this;
+		}
+
+		/**
+		 * Routes the flags whose keys start with the prefix to the site. If several prefixes match a flag key,
+		 * the longest one is used.
+		 *
+		 * @param flagKeyPrefix Prefix of the flag keys
+		 * @param siteCode      Site code
+		 * @return the builder
+		 */
+		public Builder routePrefix(String flagKeyPrefix, String siteCode) {
+			prefixRoutes.put(flagKeyPrefix, siteCode);
+			return this;
+		}
+
+		/**
+		 * Routes the flags which match neither a flag key nor a prefix to the site. Without the default site,
+		 * their evaluations return the default value with {@link ErrorCode#FLAG_NOT_FOUND}.
+		 *
+		 * @param siteCode Site code
+		 * @return the builder
+		 */
+		public Builder defaultSite(String siteCode) {
+			this.defaultSiteCode = siteCode;
+			return this;
+		}
+
+		/**
+		 * Builds the provider.
+		 *
+		 * @return multi-site provider
+		 * @throws IllegalArgumentException if a route refers to a site which isn't added
+		 */
+		public MultiSiteProvider build() {
+			if (providers.isEmpty()) {
+				throw new IllegalArgumentException("At least one site must be added");
+			}
+			checkSites(flagRoutes.values());
+			checkSites(prefixRoutes.values());
+			if (defaultSiteCode != null && !providers.containsKey(defaultSiteCode)) {
+				throw new IllegalArgumentException("Unknown site code: " + defaultSiteCode);
+			}
+			return new MultiSiteProvider(this);
+		}
+
+		private void checkSites(Iterable<String> siteCodes) {
+			for (String siteCode : siteCodes) {
+				if (!providers.containsKey(siteCode)) {
+					throw new IllegalArgumentException("Unknown site code: " + siteCode);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.kameleoon.openfeature;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ProviderLifecycle holds the provider phase together with the current client generation in a single atomic
+ * reference. Each generation counts the work in flight, so shutdown and client swaps can wait for it to finish.
+ * Entering and exiting the lifecycle doesn't take locks.
+ * <p>
+ * Phases move only forward: {@link Phase#NOT_READY} -> {@link Phase#READY} -> {@link Phase#DRAINING}
+ * -> {@link Phase#STOPPED}. {@link Phase#DRAINING} can be entered directly from {@link Phase#NOT_READY}.
+ *
+ * @param <C> type of the client
+ */
+final class ProviderLifecycle<C> {
+
+	enum Phase {
+		NOT_READY,
+		READY,
+		DRAINING,
+		STOPPED;
+
+		boolean isRunning() {
+			return this == NOT_READY || this == READY;
+		}
+	}
+
+	/**
+	 * Client used by the provider until it is swapped, with the count of work in flight which uses it.
+	 */
+	static final class Generation<C> {
+
+		private static final long DRAIN_PARK_NANOS = 50_000L;
+		private static final int DRAIN_SPINS = 100;
+
+		final C client;
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		Generation(C client) {
+			this.client = client;
+		}
+
+		/**
+		 * Completes work registered with {@link ProviderLifecycle#enter()}.
+		 */
+		void exit() {
+			inFlight.decrementAndGet();
+		}
+
+		int getInFlightCount() {
+			return inFlight.get();
+		}
+
+		/**
+		 * Waits until the work in flight is finished.
+		 *
+		 * @return {@code true} if all the work has finished before the timeout
+		 */
+		boolean awaitDrained(long timeoutNanos) {
+			long deadline = System.nanoTime() + timeoutNanos;
+			for (int spins = 0; inFlight.get() > 0; spins++) {
+				if (System.nanoTime() - deadline >= 0) {
+					return false;
+				}
+				if (spins < DRAIN_SPINS) {
+					Thread.yield();
+				} else {
+					LockSupport.parkNanos(DRAIN_PARK_NANOS);
+				}
+			}
+			return true;
+		}
+	}
+
+	static final class State<C> {
+		final Phase phase;
+		final Generation<C> generation;
+
+		State(Phase phase, Generation<C> generation) {
+			this.phase = phase;
+			this.generation = generation;
+		}
+	}
+
+	private final AtomicReference<State<C>> state;
+
+	ProviderLifecycle(C client) {
+		this.state = new AtomicReference<>(new State<>(Phase.NOT_READY, new Generation<>(client)));
+	}
+
+	State<C> getState() {
+		return state.get();
+	}
+
+	/**
+	 * Client of the running provider, {@code null} once the provider is stopped.
+	 */
+	C getClient() {
+		Generation<C> generation = state.get().generation;
+		return generation != null ? generation.client : null;
+	}
+
+	/**
+	 * Registers work in flight in the current generation. Every call which returns a generation must be
+	 * followed by {@link Generation#exit()}.
+	 *
+	 * @return the current generation or {@code null} if the provider is draining or stopped
+	 */
+	Generation<C> enter() {
+		while (true) {
+			State<C> current = state.get();
+			if (!current.phase.isRunning()) {
+				return null;
+			}
+			Generation<C> generation = current.generation;
+			generation.inFlight.incrementAndGet();
+			State<C> checked = state.get();
+			if (checked.generation == generation && checked.phase.isRunning()) {
+				return generation;
+			}
+			// The provider has been stopped or the client has been swapped concurrently
+			generation.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Moves the provider from {@link Phase#NOT_READY} to {@link Phase#READY}.
+	 *
+	 * @return {@code false} if the provider isn't in {@link Phase#NOT_READY}
+	 */
+	boolean markReady() {
+		while (true) {
+			State<C> current = state.get();
+			if (current.phase != Phase.NOT_READY) {
+				return false;
+			}
+			if (state.compareAndSet(current, new State<>(Phase.READY, current.generation))) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Makes the client current. New work uses the new client while the work in flight finishes with
+	 * the previous one.
+	 *
+	 * @return the previous generation or {@code null} if the provider is draining or stopped
+	 */
+	Generation<C> swap(C client) {
+		Generation<C> next = new Generation<>(client);
+		while (true) {
+			State<C> current = state.get();
+			if (!current.phase.isRunning()) {
+				return null;
+			}
+			if (state.compareAndSet(current, new State<>(current.phase, next))) {
+				return current.generation;
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting new work. Only the first call succeeds.
+	 *
+	 * @return the generation to drain or {@code null} if the provider is already draining or stopped
+	 */
+	Generation<C> beginDrain() {
+		while (true) {
+			State<C> current = state.get();
+			if (!current.phase.isRunning()) {
+				return null;
+			}
+			if (state.compareAndSet(current, new State<>(Phase.DRAINING, current.generation))) {
+				return current.generation;
+			}
+		}
+	}
+
+	/**
+	 * Moves the draining provider to {@link Phase#STOPPED} and drops the client.
+	 */
+	void stop() {
+		while (true) {
+			State<C> current = state.get();
+			if (current.phase != Phase.DRAINING
+					|| state.compareAndSet(current, new State<C>(Phase.STOPPED, null))) {
+				return;
+			}
+		}
+	}
+}
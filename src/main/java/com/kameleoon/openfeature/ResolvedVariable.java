@@ -0,0 +1,143 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.Objects;
+import javax.json.JsonValue;
+
+/**
+ * ResolvedVariable is a result of a flag variable resolution which doesn't depend on the requested type.
+ * It keeps a single evaluation: the evaluation of the value, made once, or for an error the evaluation with the
+ * last requested default value. Type mismatches and evaluations of the value converted to OpenFeature
+ * {@link Value} are made on demand. The conversion of a JSON value or its decoded object is kept as well.
+ */
+final class ResolvedVariable {
+
+	static final String TYPE_MISMATCH_MESSAGE = "The type of value received is different from the requested value.";
+
+	final String variant;
+	final Object value;
+	final ErrorCode errorCode;
+	final String errorMessage;
+	private volatile ProviderEvaluation<?> evaluation;
+	// The JSON value converted to OpenFeature Value or decoded to a user type, the last one made
+	private volatile Object converted;
+
+	private ResolvedVariable(String variant, Object value, ErrorCode errorCode, String errorMessage) {
+		this.variant = variant;
+		this.value = value;
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+	}
+
+	static ResolvedVariable ofValue(String variant, Object value) {
+		return new ResolvedVariable(variant, value, null, null);
+	}
+
+	static ResolvedVariable ofError(String variant, ErrorCode errorCode, String errorMessage) {
+		return new ResolvedVariable(variant, null, errorCode, errorMessage);
+	}
+
+	boolean isError() {
+		return errorCode != null;
+	}
+
+	/**
+	 * Returns the evaluation of the value. The caller checks that the value has the requested type.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ProviderEvaluation<T> toEvaluation() {
+		ProviderEvaluation<?> current = evaluation;
+		if (current == null) {
+			current = new ProviderEvaluation<>(value, variant, Reason.STATIC.toString(), null, null);
+			evaluation = current;
+		}
+		return (ProviderEvaluation<T>) current;
+	}
+
+	/**
+	 * Returns the evaluation of the value converted to OpenFeature {@link Value}. The evaluation is made on every
+	 * call, only the conversion of a JSON value is kept.
+	 */
+	ProviderEvaluation<Value> toValueEvaluation() {
+		return new ProviderEvaluation<>(asValue(), variant, Reason.STATIC.toString(), null, null);
+	}
+
+	/**
+	 * Returns the evaluation of the resolution error with the default value. It is kept for the last requested
+	 * default value.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ProviderEvaluation<T> toErrorEvaluation(T defaultValue) {
+		ProviderEvaluation<?> current = evaluation;
+		if (current != null && Objects.equals(current.getValue(), defaultValue)) {
+			return (ProviderEvaluation<T>) current;
+		}
+		ProviderEvaluation<T> made = makeErrorEvaluation(defaultValue, errorCode, errorMessage);
+		evaluation = made;
+		return made;
+	}
+
+	/**
+	 * Returns the evaluation of the type mismatch between the value and the default value.
+	 */
+	<T> ProviderEvaluation<T> toTypeMismatchEvaluation(T defaultValue) {
+		return makeErrorEvaluation(defaultValue, ErrorCode.TYPE_MISMATCH, TYPE_MISMATCH_MESSAGE);
+	}
+
+	private <T> ProviderEvaluation<T> makeErrorEvaluation(T defaultValue, ErrorCode errorCode, String errorMessage) {
+		return new ProviderEvaluation<>(defaultValue, variant, Reason.STATIC.toString(), errorCode, errorMessage);
+	}
+
+	/**
+	 * Returns the value converted to OpenFeature {@link Value}. Only the conversion of a JSON value is kept,
+	 * other values are cheap to wrap.
+	 */
+	Value asValue() {
+		if (!(value instanceof JsonValue)) {
+			return value != null ? DataConverter.toOpenFeature(value) : null;
+		}
+		Object current = converted;
+		if (current instanceof Value) {
+			return (Value) current;
+		}
+		Value made = DataConverter.toOpenFeature(value);
+		converted = made;
+		return made;
+	}
+
+	/**
+	 * Returns the JSON value decoded with the decoder. The result of the last used decoder is kept.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T decode(JsonDecoder<T> decoder) throws Exception {
+		Object current = converted;
+		if (current instanceof Decoded && ((Decoded) current).decoder == decoder) {
+			return (T) ((Decoded) current).value;
+		}
+		T value = decoder.decode((JsonValue) this.value);
+		converted = new Decoded(decoder, value);
+		return value;
+	}
+
+	/**
+	 * Makes the conversions which are expensive to be done on the first read.
+	 */
+	void warmUp() {
+		if (value instanceof JsonValue) {
+			asValue();
+		}
+	}
+
+	private static final class Decoded {
+		private final JsonDecoder<?> decoder;
+		private final Object value;
+
+		Decoded(JsonDecoder<?> decoder, Object value) {
+			this.decoder = decoder;
+			this.value = value;
+		}
+	}
+}
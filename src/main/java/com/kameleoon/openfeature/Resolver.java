@@ -2,10 +2,80 @@ package com.kameleoon.openfeature;
 
 import dev.openfeature.sdk.EvaluationContext;
 import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Resolver interface which contains method for evalutions based on provided data
  */
 interface Resolver {
 	<T> ProviderEvaluation<T> resolve(String flagKey, T defaultValue, EvaluationContext context);
+
+	/**
+	 * Makes an evaluation with the value converted to OpenFeature {@link Value}.
+	 */
+	ProviderEvaluation<Value> resolveValue(String flagKey, Value defaultValue, EvaluationContext context);
+
+	/**
+	 * Resolves the flag like {@link #resolve(String, Object, EvaluationContext)} and measures the phases of
+	 * the resolution in the span.
+	 */
+	<T> ProviderEvaluation<T> resolve(String flagKey, T defaultValue, EvaluationContext context,
+			EvaluationSpan.Builder span);
+
+	/**
+	 * Resolves the flag like {@link #resolveValue(String, Value, EvaluationContext)} and measures the phases of
+	 * the resolution in the span.
+	 */
+	ProviderEvaluation<Value> resolveValue(String flagKey, Value defaultValue, EvaluationContext context,
+			EvaluationSpan.Builder span);
+
+	/**
+	 * Makes an evaluation with the JSON value bound to the user type by the decoder.
+	 */
+	<T> ProviderEvaluation<T> resolveDecoded(String flagKey, T defaultValue, Class<T> type, JsonDecoder<T> decoder,
+			EvaluationContext context);
+
+	/**
+	 * Returns the value of the flag variable if it is resolved and has the requested type, otherwise {@code null}.
+	 * Values of {@link Value} type are converted to OpenFeature {@link Value}.
+	 */
+	<T> T getValue(String flagKey, String variableKey, Class<T> type);
+
+	/**
+	 * Returns whether the flag variable is evaluated from memory, without calling the Kameleoon client.
+	 */
+	boolean isResolved(String flagKey, String variableKey);
+
+	/**
+	 * Returns whether the resolver has a configuration to resolve flags with, e.g. a bundled one while the
+	 * Kameleoon client is still loading.
+	 */
+	boolean isReady();
+
+	/**
+	 * Resolves the flag variables in advance, so the following evaluations don't have to.
+	 */
+	void prefetch(List<FlagVariable> flagVariables);
+
+	/**
+	 * Drops the results resolved in advance, e.g. when the visitor data or the configuration is changed.
+	 */
+	void invalidate();
+
+	/**
+	 * Drops the results resolved in advance for the selected flags, e.g. when only some visitor data is changed.
+	 */
+	void invalidate(VariableCache.FlagFilter affectedFlags);
+
+	/**
+	 * Visits the flag variables which are currently resolved.
+	 */
+	void forEachResolved(VariableCache.Visitor visitor);
+
+	/**
+	 * Returns states of the per-flag circuit breakers.
+	 */
+	Map<String, CircuitState> getCircuitStates();
 }
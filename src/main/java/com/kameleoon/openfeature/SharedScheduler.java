@@ -0,0 +1,24 @@
+package com.kameleoon.openfeature;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import kotlinx.coroutines.CoroutineDispatcher;
+import kotlinx.coroutines.ExecutorsKt;
+
+/**
+ * SharedScheduler holds the thread which dispatches provider events and runs delayed provider work of all
+ * providers. The thread is created on first use. Work scheduled on it must be short.
+ */
+final class SharedScheduler {
+
+	static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Kameleoon-OpenFeature-Scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static final CoroutineDispatcher DISPATCHER = ExecutorsKt.from(EXECUTOR);
+
+	private SharedScheduler() {
+	}
+}
@@ -0,0 +1,176 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * SharedSnapshotCodec encodes prefetched flag variables into the compact binary payload of the shared snapshot
+ * and decodes them back. Values of unsupported types are not encoded.
+ */
+final class SharedSnapshotCodec {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final byte KIND_ERROR = 0;
+	private static final byte KIND_BOOLEAN = 1;
+	private static final byte KIND_INTEGER = 2;
+	private static final byte KIND_LONG = 3;
+	private static final byte KIND_FLOAT = 4;
+	private static final byte KIND_DOUBLE = 5;
+	private static final byte KIND_STRING = 6;
+	private static final byte KIND_JSON = 7;
+
+	private SharedSnapshotCodec() {
+	}
+
+	/**
+	 * Encodes the flag variables kept in memory by the resolver, which are the prefetched ones.
+	 */
+	static byte[] encode(Resolver resolver) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bytes);
+		int[] count = new int[1];
+		IOException[] failure = new IOException[1];
+		resolver.forEachResolved((flagKey, variableKey, variable) -> {
+			if (failure[0] != null || !isSupported(variable)) {
+				return;
+			}
+			try {
+				writeEntry(body, flagKey, variableKey, variable);
+				count[0]++;
+			} catch (IOException exception) {
+				failure[0] = exception;
+			}
+		});
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+		body.flush();
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(bytes.size() + 4);
+		DataOutputStream output = new DataOutputStream(payload);
+		output.writeInt(count[0]);
+		bytes.writeTo(output);
+		output.flush();
+		return payload.toByteArray();
+	}
+
+	/**
+	 * Decodes the payload and passes the resolved flag variables to the visitor.
+	 */
+	static void decode(byte[] payload, int length, VariableCache.Visitor visitor) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+		int count = input.readInt();
+		for (int i = 0; i < count; i++) {
+			String flagKey = readString(input);
+			String variableKey = readString(input);
+			String variant = readString(input);
+			byte kind = input.readByte();
+			ResolvedVariable variable;
+			if (kind == KIND_ERROR) {
+				ErrorCode errorCode = ErrorCode.valueOf(readString(input));
+				variable = ResolvedVariable.ofError(variant, errorCode, readString(input));
+			} else {
+				variable = ResolvedVariable.ofValue(variant, readValue(input, kind));
+			}
+			visitor.visit(flagKey, variableKey, variable);
+		}
+	}
+
+	private static boolean isSupported(ResolvedVariable variable) {
+		Object value = variable.value;
+		return variable.isError() || value instanceof Boolean || value instanceof Integer || value instanceof Long
+				|| value instanceof Float || value instanceof Double || value instanceof String
+				|| value instanceof JsonValue;
+	}
+
+	private static void writeEntry(DataOutputStream output, String flagKey, String variableKey,
+			ResolvedVariable variable) throws IOException {
+		writeString(output, flagKey);
+		writeString(output, variableKey);
+		writeString(output, variable.variant);
+		if (variable.isError()) {
+			output.writeByte(KIND_ERROR);
+			writeString(output, variable.errorCode.name());
+			writeString(output, variable.errorMessage);
+			return;
+		}
+		Object value = variable.value;
+		if (value instanceof Boolean) {
+			output.writeByte(KIND_BOOLEAN);
+			output.writeBoolean((Boolean) value);
+		} else if (value instanceof Integer) {
+			output.writeByte(KIND_INTEGER);
+			output.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			output.writeByte(KIND_LONG);
+			output.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			output.writeByte(KIND_FLOAT);
+			output.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			output.writeByte(KIND_DOUBLE);
+			output.writeDouble((Double) value);
+		} else if (value instanceof String) {
+			output.writeByte(KIND_STRING);
+			writeString(output, (String) value);
+		} else {
+			output.writeByte(KIND_JSON);
+			writeString(output, value.toString());
+		}
+	}
+
+	private static Object readValue(DataInputStream input, byte kind) throws IOException {
+		switch (kind) {
+			case KIND_BOOLEAN:
+				return input.readBoolean();
+			case KIND_INTEGER:
+				return input.readInt();
+			case KIND_LONG:
+				return input.readLong();
+			case KIND_FLOAT:
+				return input.readFloat();
+			case KIND_DOUBLE:
+				return input.readDouble();
+			case KIND_STRING:
+				return readString(input);
+			case KIND_JSON:
+				try (JsonReader reader = Json.createReader(new StringReader(readString(input)))) {
+					return reader.readValue();
+				}
+			default:
+				throw new IOException("Unknown kind of shared flag value: " + kind);
+		}
+	}
+
+	/**
+	 * Strings are written as UTF-8 bytes prefixed with the length, {@code -1} stands for {@code null}.
+	 */
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+}
@@ -0,0 +1,38 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import java.io.File;
+
+/**
+ * SharedSnapshotFile describes the memory-mapped file of the shared flag snapshot.
+ * <p>
+ * Layout: a header followed by the payload encoded by {@link SharedSnapshotCodec}. The header contains
+ * the magic number, the format version, the sequence, the payload length and the payload CRC32.
+ * The sequence is odd while the owner process writes the payload, readers retry in this case and
+ * verify the checksum of what they have read.
+ */
+final class SharedSnapshotFile {
+
+	static final int MAGIC = 0x4B4F4653; // "KOFS"
+	static final int FORMAT_VERSION = 1;
+
+	static final int MAGIC_OFFSET = 0;
+	static final int FORMAT_OFFSET = 4;
+	static final int SEQUENCE_OFFSET = 8;
+	static final int LENGTH_OFFSET = 16;
+	static final int CRC_OFFSET = 20;
+	static final int HEADER_SIZE = 24;
+
+	static final String DIRECTORY = "kameleoon_openfeature";
+
+	private SharedSnapshotFile() {
+	}
+
+	/**
+	 * Returns the snapshot file of the site code in the application files directory, which is shared
+	 * by all processes of the application.
+	 */
+	static File get(Context context, String siteCode) {
+		return new File(new File(context.getFilesDir(), DIRECTORY), siteCode + ".snapshot");
+	}
+}
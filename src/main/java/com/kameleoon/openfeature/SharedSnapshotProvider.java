@@ -0,0 +1,193 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FeatureProvider;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.ProviderMetadata;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.events.OpenFeatureEvents;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderNotReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderStale;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import kotlinx.coroutines.flow.Flow;
+
+/**
+ * The {@link SharedSnapshotProvider} is an OpenFeature {@link FeatureProvider} for secondary processes of the
+ * application. It doesn't create a Kameleoon client: flag variables are read from the snapshot published by
+ * the {@link KameleoonProvider} of the main process with
+ * {@link KameleoonProviderConfig.Builder#shareSnapshot(boolean)} enabled.
+ */
+public class SharedSnapshotProvider implements FeatureProvider {
+
+	private static final ProviderMetadata METADATA = () -> "Kameleoon Shared Snapshot Provider";
+	static final long POLL_INTERVAL_MILLIS = 500;
+
+	private final SharedSnapshotReader reader;
+	private final SnapshotResolver resolver;
+	private final EventDispatcher events = new EventDispatcher();
+	private final Object lock = new Object();
+	private ScheduledExecutorService poller;
+	private ScheduledFuture<?> polling;
+	private boolean stopped;
+
+	/**
+	 * Constructor for SharedSnapshotProvider
+	 *
+	 * @param siteCode Site code
+	 * @param context  Android context
+	 */
+	public SharedSnapshotProvider(String siteCode, Context context) {
+		this(new SharedSnapshotReader(SharedSnapshotFile.get(context, siteCode)));
+	}
+
+	SharedSnapshotProvider(SharedSnapshotReader reader) {
+		this.reader = reader;
+		this.resolver = new SnapshotResolver(reader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NonNull
+	@Override
+	public List<Hook<?>> getHooks() {
+		return new ArrayList<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NonNull
+	@Override
+	public ProviderMetadata getMetadata() {
+		return METADATA;
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Boolean> getBooleanEvaluation(@NonNull String flagKey, boolean defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Double> getDoubleEvaluation(@NonNull String flagKey, double defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Integer> getIntegerEvaluation(@NonNull String flagKey, int defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<Value> getObjectEvaluation(@NonNull String flagKey, @NonNull Value defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		return resolver.resolveValue(flagKey, defaultValue, evaluationContext);
+	}
+
+	@NonNull
+	@Override
+	public ProviderEvaluation<String> getStringEvaluation(@NonNull String flagKey, @NonNull String defaultValue,
+			@Nullable EvaluationContext evaluationContext) {
+		return resolver.resolve(flagKey, defaultValue, evaluationContext);
+	}
+
+	/**
+	 * Publishes {@link ProviderReady} as soon as the main process has published a snapshot.
+	 */
+	@Override
+	public void initialize(@Nullable EvaluationContext evaluationContext) {
+		if (resolver.refresh()) {
+			events.publish(ProviderReady.INSTANCE);
+			return;
+		}
+		synchronized (lock) {
+			if (stopped || poller != null) {
+				return;
+			}
+			poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "Kameleoon-OpenFeature-Snapshot");
+				thread.setDaemon(true);
+				return thread;
+			});
+			polling = poller.scheduleWithFixedDelay(this::poll, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * The visitor data is owned by the main process, so the context isn't used by this provider.
+	 */
+	@Override
+	public void onContextSet(@Nullable EvaluationContext oldEvaluationContext,
+			@NonNull EvaluationContext evaluationContext) {
+	}
+
+	@Override
+	public void shutdown() {
+		synchronized (lock) {
+			stopped = true;
+			if (poller != null) {
+				poller.shutdownNow();
+				poller = null;
+				polling = null;
+			}
+		}
+		events.shutdown();
+		try {
+			reader.close();
+		} catch (IOException ignored) {
+			// Nothing to release
+		}
+	}
+
+	@NonNull
+	@Override
+	public Flow<OpenFeatureEvents> observe() {
+		return events.observe();
+	}
+
+	@NonNull
+	@Override
+	public OpenFeatureEvents getProviderStatus() {
+		synchronized (lock) {
+			if (stopped) {
+				return ProviderStale.INSTANCE;
+			}
+		}
+		return reader.isAvailable() ? ProviderReady.INSTANCE : ProviderNotReady.INSTANCE;
+	}
+
+	private void poll() {
+		if (!resolver.refresh()) {
+			return;
+		}
+		synchronized (lock) {
+			if (stopped || polling == null) {
+				return;
+			}
+			polling.cancel(false);
+			polling = null;
+			poller.shutdown();
+			poller = null;
+		}
+		events.publish(ProviderReady.INSTANCE);
+	}
+}
@@ -0,0 +1,129 @@
+package com.kameleoon.openfeature;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * SharedSnapshotReader reads the shared flag snapshot published by the owner process. Checking for a new
+ * snapshot costs a single read of the mapped header, the payload is read only when the sequence changes.
+ * Until the owner process has created the file, its size is checked at most once per poll interval.
+ */
+final class SharedSnapshotReader implements Closeable {
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final File file;
+	private final long fileCheckIntervalNanos;
+	private volatile long nextFileCheckNanos = System.nanoTime();
+	private RandomAccessFile randomAccessFile;
+	private volatile MappedByteBuffer header;
+	private volatile long sequence = -1L;
+	private volatile boolean closed;
+
+	SharedSnapshotReader(File file) {
+		this(file, TimeUnit.MILLISECONDS.toNanos(SharedSnapshotProvider.POLL_INTERVAL_MILLIS));
+	}
+
+	SharedSnapshotReader(File file, long fileCheckIntervalNanos) {
+		this.file = file;
+		this.fileCheckIntervalNanos = fileCheckIntervalNanos;
+	}
+
+	/**
+	 * Whether a snapshot has been read at least once.
+	 */
+	boolean isAvailable() {
+		return sequence != -1L;
+	}
+
+	/**
+	 * Whether the owner process may have published a new snapshot since the last read. It doesn't take locks
+	 * and is always {@code false} once the reader is closed. While the file isn't mapped yet, calls within the
+	 * check interval return {@code false} without touching the file system.
+	 */
+	boolean hasChanged() {
+		if (closed) {
+			return false;
+		}
+		MappedByteBuffer currentHeader = header;
+		if (currentHeader != null) {
+			return currentHeader.getLong(SharedSnapshotFile.SEQUENCE_OFFSET) != sequence;
+		}
+		long now = System.nanoTime();
+		if (now - nextFileCheckNanos < 0) {
+			return false;
+		}
+		nextFileCheckNanos = now + fileCheckIntervalNanos;
+		return file.length() >= SharedSnapshotFile.HEADER_SIZE;
+	}
+
+	/**
+	 * Reads the snapshot if its sequence differs from the last read one. Callers check {@link #hasChanged()}
+	 * first, so the file isn't opened on every evaluation.
+	 *
+	 * @return {@code true} if a new snapshot has been passed to the visitor
+	 */
+	synchronized boolean read(VariableCache.Visitor visitor) throws IOException {
+		if (closed || header == null && !open()) {
+			return false;
+		}
+		FileChannel channel = randomAccessFile.getChannel();
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			long started = header.getLong(SharedSnapshotFile.SEQUENCE_OFFSET);
+			if (started == sequence) {
+				return false;
+			}
+			if ((started & 1L) != 0L || header.getInt(SharedSnapshotFile.MAGIC_OFFSET) != SharedSnapshotFile.MAGIC
+					|| header.getInt(SharedSnapshotFile.FORMAT_OFFSET) != SharedSnapshotFile.FORMAT_VERSION) {
+				Thread.yield();
+				continue;
+			}
+			int length = header.getInt(SharedSnapshotFile.LENGTH_OFFSET);
+			int expectedCrc = header.getInt(SharedSnapshotFile.CRC_OFFSET);
+			if (length < 0 || SharedSnapshotFile.HEADER_SIZE + (long) length > channel.size()) {
+				Thread.yield();
+				continue;
+			}
+			byte[] payload = new byte[length];
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, SharedSnapshotFile.HEADER_SIZE, length);
+			buffer.get(payload);
+			CRC32 crc = new CRC32();
+			crc.update(payload, 0, length);
+			if (header.getLong(SharedSnapshotFile.SEQUENCE_OFFSET) != started || (int) crc.getValue() != expectedCrc) {
+				continue;
+			}
+			SharedSnapshotCodec.decode(payload, length, visitor);
+			sequence = started;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean open() throws IOException {
+		if (!file.isFile() || file.length() < SharedSnapshotFile.HEADER_SIZE) {
+			return false;
+		}
+		randomAccessFile = new RandomAccessFile(file, "r");
+		header = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, SharedSnapshotFile.HEADER_SIZE);
+		return true;
+	}
+
+	/**
+	 * Unmaps the snapshot file. Following reads don't open it again and return {@code false}.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		closed = true;
+		header = null;
+		if (randomAccessFile != null) {
+			randomAccessFile.close();
+			randomAccessFile = null;
+		}
+	}
+}
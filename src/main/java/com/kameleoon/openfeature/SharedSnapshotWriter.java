@@ -0,0 +1,58 @@
+package com.kameleoon.openfeature;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * SharedSnapshotWriter publishes the shared flag snapshot. Only the owner process writes the snapshot.
+ */
+final class SharedSnapshotWriter implements Closeable {
+
+	private final File file;
+	private RandomAccessFile randomAccessFile;
+
+	SharedSnapshotWriter(File file) {
+		this.file = file;
+	}
+
+	synchronized void write(byte[] payload) throws IOException {
+		if (randomAccessFile == null) {
+			File directory = file.getParentFile();
+			if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+				throw new IOException("Unable to create directory " + directory);
+			}
+			randomAccessFile = new RandomAccessFile(file, "rw");
+		}
+		FileChannel channel = randomAccessFile.getChannel();
+		long size = Math.max(channel.size(), SharedSnapshotFile.HEADER_SIZE + payload.length);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+		long sequence = buffer.getInt(SharedSnapshotFile.MAGIC_OFFSET) == SharedSnapshotFile.MAGIC
+				? buffer.getLong(SharedSnapshotFile.SEQUENCE_OFFSET) & ~1L
+				: 0L;
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+
+		buffer.putInt(SharedSnapshotFile.MAGIC_OFFSET, SharedSnapshotFile.MAGIC);
+		buffer.putInt(SharedSnapshotFile.FORMAT_OFFSET, SharedSnapshotFile.FORMAT_VERSION);
+		buffer.putLong(SharedSnapshotFile.SEQUENCE_OFFSET, sequence + 1);
+		buffer.position(SharedSnapshotFile.HEADER_SIZE);
+		buffer.put(payload);
+		buffer.putInt(SharedSnapshotFile.LENGTH_OFFSET, payload.length);
+		buffer.putInt(SharedSnapshotFile.CRC_OFFSET, (int) crc.getValue());
+		buffer.putLong(SharedSnapshotFile.SEQUENCE_OFFSET, sequence + 2);
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (randomAccessFile != null) {
+			randomAccessFile.close();
+			randomAccessFile = null;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.kameleoon.openfeature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SiteRouter finds the site of a flag key: first among the flag keys registered explicitly, then by the longest
+ * matching flag key prefix, and finally the default site.
+ *
+ * @param <S> type of the site
+ */
+final class SiteRouter<S> {
+
+	private final Map<String, S> flagSites;
+	private final String[] prefixes;
+	private final List<S> prefixSites;
+	private final S defaultSite;
+
+	SiteRouter(Map<String, S> flagSites, Map<String, S> prefixSites, S defaultSite) {
+		this.flagSites = new HashMap<>(flagSites);
+		List<String> sortedPrefixes = new ArrayList<>(prefixSites.keySet());
+		// Longer prefixes are more specific, so they are checked first
+		Collections.sort(sortedPrefixes, (first, second) -> second.length() - first.length());
+		this.prefixes = sortedPrefixes.toArray(new String[0]);
+		this.prefixSites = new ArrayList<>(sortedPrefixes.size());
+		for (String prefix : sortedPrefixes) {
+			this.prefixSites.add(prefixSites.get(prefix));
+		}
+		this.defaultSite = defaultSite;
+	}
+
+	/**
+	 * @return the site of the flag or {@code null} if the flag isn't routed and there is no default site
+	 */
+	S route(String flagKey) {
+		S site = flagSites.get(flagKey);
+		if (site != null) {
+			return site;
+		}
+		for (int i = 0; i < prefixes.length; i++) {
+			if (flagKey.startsWith(prefixes[i])) {
+				return prefixSites.get(i);
+			}
+		}
+		return defaultSite;
+	}
+}
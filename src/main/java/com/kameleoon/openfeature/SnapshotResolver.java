@@ -0,0 +1,82 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * SnapshotResolver resolves flag variables from the shared snapshot published by the owner process.
+ * A new snapshot is read on the first evaluation after it has been published.
+ */
+final class SnapshotResolver extends VariableResolver {
+
+	private static final ResolvedVariable NOT_PUBLISHED = ResolvedVariable.ofError(null, ErrorCode.FLAG_NOT_FOUND,
+			"The flag variable isn't published in the shared snapshot");
+
+	private final SharedSnapshotReader reader;
+	private volatile VariableCache cache = new VariableCache();
+
+	SnapshotResolver(SharedSnapshotReader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Reads the snapshot if a new one has been published. Checking the snapshot header doesn't allocate,
+	 * the cache of the new snapshot is created only when it is read.
+	 *
+	 * @return {@code true} if a snapshot is available
+	 */
+	boolean refresh() {
+		if (!reader.hasChanged()) {
+			return reader.isAvailable();
+		}
+		try {
+			VariableCache loaded = new VariableCache();
+			long version = loaded.getVersion();
+			if (reader.read((flagKey, variableKey, variable) ->
+					loaded.put(flagKey, variableKey, variable, version))) {
+				cache = loaded;
+			}
+		} catch (IOException ignored) {
+			// The previous snapshot is kept until a readable one is published
+		}
+		return reader.isAvailable();
+	}
+
+	@Override
+	ResolvedVariable getResolvedVariable(String flagKey, String variableKey) {
+		refresh();
+		ResolvedVariable resolved = cache.get(flagKey, variableKey);
+		return resolved != null ? resolved : NOT_PUBLISHED;
+	}
+
+	/**
+	 * Whether a snapshot has been read.
+	 */
+	@Override
+	public boolean isReady() {
+		return reader.isAvailable();
+	}
+
+	/**
+	 * The snapshot is replaced only by the owner process.
+	 */
+	@Override
+	public void invalidate() {
+	}
+
+	@Override
+	public void invalidate(VariableCache.FlagFilter affectedFlags) {
+	}
+
+	@Override
+	public void forEachResolved(VariableCache.Visitor visitor) {
+		cache.forEach(visitor);
+	}
+
+	@Override
+	public Map<String, CircuitState> getCircuitStates() {
+		return Collections.emptyMap();
+	}
+}
@@ -0,0 +1,18 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives the spans of sampled evaluations, enabled with
+ * {@link KameleoonProviderConfig.Builder#traceEvaluations(double, SpanExporter)}. Spans are exported on
+ * background threads, never on the thread of the evaluation, and several spans may be exported concurrently.
+ */
+public interface SpanExporter {
+
+	/**
+	 * Exports the span of an evaluation.
+	 *
+	 * @param span span of the evaluation
+	 */
+	void export(@NonNull EvaluationSpan span);
+}
@@ -0,0 +1,23 @@
+package com.kameleoon.openfeature;
+
+/**
+ * Phases of an evaluation measured by an {@link EvaluationSpan}.
+ */
+public enum SpanPhase {
+	/**
+	 * Reading the variable key from the evaluation context.
+	 */
+	VARIABLE_KEY,
+	/**
+	 * Getting the variation from the Kameleoon client, or from memory if the flag variable is already resolved.
+	 */
+	GET_VARIATION,
+	/**
+	 * Checking that the variable value has the requested type.
+	 */
+	TYPE_CHECK,
+	/**
+	 * Converting the variable value to an OpenFeature value.
+	 */
+	CONVERSION
+}
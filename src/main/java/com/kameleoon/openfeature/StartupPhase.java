@@ -0,0 +1,28 @@
+package com.kameleoon.openfeature;
+
+/**
+ * StartupPhase enumerates the phases between the {@link KameleoonProvider}
+ * construction and the {@link dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady} event.
+ */
+public enum StartupPhase {
+	CLIENT_CREATION("Kameleoon:clientCreation"),
+	READY_WAIT("Kameleoon:readyWait"),
+	CONTEXT_CONVERSION("Kameleoon:contextConversion"),
+	ADD_DATA("Kameleoon:addData"),
+	EVENT_PUBLISH("Kameleoon:eventPublish");
+
+	private final String sectionName;
+
+	StartupPhase(String sectionName) {
+		this.sectionName = sectionName;
+	}
+
+	/**
+	 * Returns the name of the section in system traces.
+	 *
+	 * @return trace section name
+	 */
+	public String getSectionName() {
+		return sectionName;
+	}
+}
@@ -0,0 +1,79 @@
+package com.kameleoon.openfeature;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupReport is a snapshot of the provider startup timings. Phases which have not finished yet
+ * have no duration.
+ */
+public final class StartupReport {
+
+	/**
+	 * Duration of a phase which has not been finished.
+	 */
+	public static final long NOT_FINISHED = -1L;
+
+	private final long[] durationsNanos;
+	private final long timeToReadyNanos;
+
+	/**
+	 * @param durationsNanos   durations of phases indexed by {@link StartupPhase#ordinal()}
+	 * @param timeToReadyNanos time from the provider construction to the ready event or {@link #NOT_FINISHED}
+	 */
+	StartupReport(long[] durationsNanos, long timeToReadyNanos) {
+		this.durationsNanos = durationsNanos.clone();
+		this.timeToReadyNanos = timeToReadyNanos;
+	}
+
+	/**
+	 * Returns the duration of the phase.
+	 *
+	 * @param phase startup phase
+	 * @return duration in nanoseconds or {@link #NOT_FINISHED}
+	 */
+	public long getDurationNanos(StartupPhase phase) {
+		return durationsNanos[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the time from the provider construction to the moment the ready event was published.
+	 *
+	 * @return time in nanoseconds or {@link #NOT_FINISHED}
+	 */
+	public long getTimeToReadyNanos() {
+		return timeToReadyNanos;
+	}
+
+	/**
+	 * Whether the provider has become ready.
+	 *
+	 * @return {@code true} if the ready event was published
+	 */
+	public boolean isReady() {
+		return timeToReadyNanos != NOT_FINISHED;
+	}
+
+	/**
+	 * Checks the time to ready against the cold-start budget.
+	 *
+	 * @param budgetMillis budget in milliseconds
+	 * @return {@code true} if the provider became ready within the budget
+	 */
+	public boolean isWithinBudget(long budgetMillis) {
+		return isReady() && timeToReadyNanos <= TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("StartupReport{");
+		for (StartupPhase phase : StartupPhase.values()) {
+			builder.append(phase.name()).append('=').append(formatMillis(getDurationNanos(phase))).append(", ");
+		}
+		return builder.append("timeToReady=").append(formatMillis(timeToReadyNanos)).append('}').toString();
+	}
+
+	private static String formatMillis(long nanos) {
+		return nanos == NOT_FINISHED ? "n/a" : String.format(Locale.US, "%.3fms", nanos / 1_000_000.0);
+	}
+}
@@ -0,0 +1,89 @@
+package com.kameleoon.openfeature;
+
+import android.os.Build;
+import android.os.Trace;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * StartupTracer measures the provider startup phases and emits them as sections of system traces.
+ * Phases which may finish on a different thread are emitted as async sections (Android 10+).
+ * Only the first run of a phase is reported, later runs are only emitted to system traces.
+ */
+final class StartupTracer {
+
+	private static final StartupPhase[] PHASES = StartupPhase.values();
+
+	private final long createdAt = System.nanoTime();
+	private final AtomicLongArray starts = new AtomicLongArray(PHASES.length);
+	private final AtomicLongArray durations = new AtomicLongArray(PHASES.length);
+	private volatile long timeToReady = StartupReport.NOT_FINISHED;
+
+	StartupTracer() {
+		for (int i = 0; i < PHASES.length; i++) {
+			durations.set(i, StartupReport.NOT_FINISHED);
+		}
+	}
+
+	/**
+	 * Starts a phase which finishes on the same thread.
+	 */
+	void begin(StartupPhase phase) {
+		start(phase);
+		Trace.beginSection(phase.getSectionName());
+	}
+
+	/**
+	 * Finishes a phase started with {@link #begin(StartupPhase)}.
+	 */
+	void end(StartupPhase phase) {
+		Trace.endSection();
+		record(phase);
+	}
+
+	/**
+	 * Starts a phase which may finish on another thread.
+	 */
+	void beginAsync(StartupPhase phase) {
+		start(phase);
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+			Trace.beginAsyncSection(phase.getSectionName(), phase.ordinal());
+		}
+	}
+
+	/**
+	 * Finishes a phase started with {@link #beginAsync(StartupPhase)}.
+	 */
+	void endAsync(StartupPhase phase) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+			Trace.endAsyncSection(phase.getSectionName(), phase.ordinal());
+		}
+		record(phase);
+	}
+
+	/**
+	 * Marks the moment when the provider became ready. Only the first call is taken into account.
+	 */
+	void markReady() {
+		if (timeToReady == StartupReport.NOT_FINISHED) {
+			timeToReady = System.nanoTime() - createdAt;
+		}
+	}
+
+	StartupReport makeReport() {
+		long[] snapshot = new long[PHASES.length];
+		for (int i = 0; i < PHASES.length; i++) {
+			snapshot[i] = durations.get(i);
+		}
+		return new StartupReport(snapshot, timeToReady);
+	}
+
+	private void start(StartupPhase phase) {
+		// The first run is measured even if a later one starts before it ends
+		starts.compareAndSet(phase.ordinal(), 0L, System.nanoTime());
+	}
+
+	private void record(StartupPhase phase) {
+		int index = phase.ordinal();
+		durations.compareAndSet(index, StartupReport.NOT_FINISHED, System.nanoTime() - starts.get(index));
+	}
+}
@@ -0,0 +1,29 @@
+package com.kameleoon.openfeature;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * StripedCounter is a counter which threads increment in different cache lines, so concurrent increments of
+ * the same counter don't contend. Reading the sum is slower than incrementing.
+ */
+final class StripedCounter {
+
+	private static final int STRIPES = 4;
+	// Stripes are 8 longs (64 bytes) apart to stay in separate cache lines
+	private static final int PADDING = 8;
+
+	private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+	void increment() {
+		int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+		cells.incrementAndGet(stripe * PADDING);
+	}
+
+	long sum() {
+		long sum = 0;
+		for (int stripe = 0; stripe < STRIPES; stripe++) {
+			sum += cells.get(stripe * PADDING);
+		}
+		return sum;
+	}
+}
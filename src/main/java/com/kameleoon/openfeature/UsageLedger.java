@@ -0,0 +1,212 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UsageLedger counts evaluations per flag and variant. Counting doesn't take locks: counters are looked up in
+ * concurrent maps and incremented with {@link StripedCounter}.
+ * <p>
+ * Counts are persisted to a compact binary file, so they survive restarts: a header (magic number and format
+ * version), the number of entries, then per entry the flag key, the variant and the count as a variable-length
+ * integer. The file is replaced atomically by renaming a temporary one. Loading and flushing are serialized, and
+ * a flush loads the file first if it isn't loaded yet, so the counts of previous runs are never overwritten.
+ */
+final class UsageLedger {
+
+	static final int MAGIC = 0x4B4F4655; // "KOFU"
+	static final int FORMAT_VERSION = 1;
+
+	// Stands for a missing variant, as keys of concurrent maps can't be null
+	private static final String NO_VARIANT = "\u0000";
+
+	private final File file;
+	private final long flushIntervalNanos;
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, StripedCounter>> counters =
+			new ConcurrentHashMap<>();
+	private final AtomicLong nextFlushNanos;
+	private volatile Map<String, Map<String, Long>> persisted = Collections.emptyMap();
+	private boolean loaded; // guarded by this
+
+	/**
+	 * Returns the usage file of the site code in the application files directory.
+	 */
+	static File getFile(Context context, String siteCode) {
+		return new File(new File(context.getFilesDir(), SharedSnapshotFile.DIRECTORY), siteCode + ".usage");
+	}
+
+	UsageLedger(File file, long flushIntervalNanos) {
+		this.file = file;
+		this.flushIntervalNanos = flushIntervalNanos;
+		this.nextFlushNanos = new AtomicLong(System.nanoTime() + flushIntervalNanos);
+	}
+
+	/**
+	 * Counts an evaluation of the flag.
+	 *
+	 * @return {@code true} if the caller should schedule a flush, returned once per flush interval
+	 */
+	boolean increment(String flagKey, String variant) {
+		ConcurrentHashMap<String, StripedCounter> variants = counters.get(flagKey);
+		if (variants == null) {
+			ConcurrentHashMap<String, StripedCounter> created = new ConcurrentHashMap<>();
+			variants = counters.putIfAbsent(flagKey, created);
+			if (variants == null) {
+				variants = created;
+			}
+		}
+		String variantKey = variant != null ? variant : NO_VARIANT;
+		StripedCounter counter = variants.get(variantKey);
+		if (counter == null) {
+			StripedCounter created = new StripedCounter();
+			counter = variants.putIfAbsent(variantKey, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+		counter.increment();
+		long now = System.nanoTime();
+		long next = nextFlushNanos.get();
+		return now - next >= 0 && nextFlushNanos.compareAndSet(next, now + flushIntervalNanos);
+	}
+
+	/**
+	 * Returns the counts of this and previous runs, the most used flags first.
+	 */
+	List<FlagUsage> getUsage() {
+		load();
+		Map<String, Map<String, Long>> totals = getTotals();
+		List<FlagUsage> usage = new ArrayList<>(totals.size());
+		for (Map.Entry<String, Map<String, Long>> entry : totals.entrySet()) {
+			usage.add(new FlagUsage(entry.getKey(), entry.getValue()));
+		}
+		Collections.sort(usage, (first, second) -> Long.compare(second.getEvaluationCount(),
+				first.getEvaluationCount()));
+		return usage;
+	}
+
+	/**
+	 * Loads the counts persisted by previous runs, once. A missing or unreadable file is treated as empty.
+	 */
+	synchronized void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			int count = input.readInt();
+			Map<String, Map<String, Long>> loaded = new HashMap<>();
+			for (int i = 0; i < count; i++) {
+				String flagKey = input.readUTF();
+				String variant = input.readBoolean() ? input.readUTF() : null;
+				long evaluations = readVarLong(input);
+				Map<String, Long> variants = loaded.get(flagKey);
+				if (variants == null) {
+					variants = new HashMap<>();
+					loaded.put(flagKey, variants);
+				}
+				variants.put(variant, evaluations);
+			}
+			persisted = loaded;
+		} catch (FileNotFoundException ignored) {
+			// Nothing has been persisted yet
+		} catch (IOException ignored) {
+			// A broken file is replaced by the next flush
+		}
+	}
+
+	/**
+	 * Writes the counts of this and previous runs to the file.
+	 */
+	synchronized void flush() throws IOException {
+		load();
+		Map<String, Map<String, Long>> totals = getTotals();
+		File directory = file.getParentFile();
+		if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create directory " + directory);
+		}
+		File temporary = new File(file.getPath() + ".tmp");
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(temporary)))) {
+			int count = 0;
+			for (Map<String, Long> variants : totals.values()) {
+				count += variants.size();
+			}
+			output.writeInt(MAGIC);
+			output.writeInt(FORMAT_VERSION);
+			output.writeInt(count);
+			for (Map.Entry<String, Map<String, Long>> flag : totals.entrySet()) {
+				for (Map.Entry<String, Long> variant : flag.getValue().entrySet()) {
+					output.writeUTF(flag.getKey());
+					output.writeBoolean(variant.getKey() != null);
+					if (variant.getKey() != null) {
+						output.writeUTF(variant.getKey());
+					}
+					writeVarLong(output, variant.getValue());
+				}
+			}
+		}
+		if (!temporary.renameTo(file)) {
+			temporary.delete();
+			throw new IOException("Unable to replace " + file);
+		}
+	}
+
+	private Map<String, Map<String, Long>> getTotals() {
+		Map<String, Map<String, Long>> totals = new HashMap<>();
+		for (Map.Entry<String, Map<String, Long>> flag : persisted.entrySet()) {
+			totals.put(flag.getKey(), new HashMap<>(flag.getValue()));
+		}
+		for (Map.Entry<String, ConcurrentHashMap<String, StripedCounter>> flag : counters.entrySet()) {
+			Map<String, Long> variants = totals.get(flag.getKey());
+			if (variants == null) {
+				variants = new HashMap<>();
+				totals.put(flag.getKey(), variants);
+			}
+			for (Map.Entry<String, StripedCounter> variant : flag.getValue().entrySet()) {
+				String variantKey = NO_VARIANT.equals(variant.getKey()) ? null : variant.getKey();
+				Long previous = variants.get(variantKey);
+				variants.put(variantKey, (previous != null ? previous : 0L) + variant.getValue().sum());
+			}
+		}
+		return totals;
+	}
+
+	static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			output.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		output.writeByte((int) value);
+	}
+
+	static long readVarLong(DataInputStream input) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = input.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable-length integer");
+	}
+}
@@ -0,0 +1,22 @@
+package com.kameleoon.openfeature;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.kameleoon.data.Data;
+import dev.openfeature.sdk.Value;
+
+/**
+ * Converts a value of the evaluation context to Kameleoon data. Converters are registered by context key
+ * with {@link DataConverter#registerConverter(String, ValueConverter)}.
+ */
+public interface ValueConverter {
+
+	/**
+	 * Converts the value. A list in the context is converted item by item.
+	 *
+	 * @param value value of the context entry
+	 * @return Kameleoon data, {@code null} if the value can't be converted
+	 */
+	@Nullable
+	Data toKameleoon(@NonNull Value value);
+}
@@ -0,0 +1,103 @@
+package com.kameleoon.openfeature;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * VariableCache keeps resolved flag variables in memory until the visitor data or the configuration changes.
+ * Every invalidation starts a new version; entries resolved against an older version are not stored.
+ */
+final class VariableCache {
+
+	/**
+	 * Visitor of the cached entries.
+	 */
+	@FunctionalInterface
+	interface Visitor {
+		void visit(String flagKey, String variableKey, ResolvedVariable variable);
+	}
+
+	/**
+	 * Selects the flags to invalidate.
+	 */
+	@FunctionalInterface
+	interface FlagFilter {
+		boolean matches(String flagKey);
+	}
+
+	/**
+	 * Key used when the variable key is not provided (the first variable of the variation).
+	 */
+	private static final String FIRST_VARIABLE = "\u0000";
+
+	private final ConcurrentHashMap<String, Map<String, ResolvedVariable>> entries = new ConcurrentHashMap<>();
+	private final AtomicLong version = new AtomicLong();
+
+	long getVersion() {
+		return version.get();
+	}
+
+	ResolvedVariable get(String flagKey, String variableKey) {
+		Map<String, ResolvedVariable> variables = entries.get(flagKey);
+		return variables != null ? variables.get(toKey(variableKey)) : null;
+	}
+
+	/**
+	 * Stores the entry if the cache hasn't been invalidated since the given version.
+	 */
+	void put(String flagKey, String variableKey, ResolvedVariable entry, long resolvedVersion) {
+		if (resolvedVersion != version.get()) {
+			return;
+		}
+		Map<String, ResolvedVariable> variables = entries.get(flagKey);
+		if (variables == null) {
+			Map<String, ResolvedVariable> created = new ConcurrentHashMap<>();
+			variables = entries.putIfAbsent(flagKey, created);
+			if (variables == null) {
+				variables = created;
+			}
+		}
+		String key = toKey(variableKey);
+		variables.put(key, entry);
+		if (resolvedVersion != version.get()) {
+			variables.remove(key, entry);
+		}
+	}
+
+	/**
+	 * Visits the entries of the current version. The variable key is {@code null} for the first variable.
+	 */
+	void forEach(Visitor visitor) {
+		for (Map.Entry<String, Map<String, ResolvedVariable>> flag : entries.entrySet()) {
+			for (Map.Entry<String, ResolvedVariable> variable : flag.getValue().entrySet()) {
+				String variableKey = variable.getKey();
+				visitor.visit(flag.getKey(), FIRST_VARIABLE.equals(variableKey) ? null : variableKey, variable.getValue());
+			}
+		}
+	}
+
+	void invalidate() {
+		version.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * Drops the entries of the selected flags. A new version is started as well, so the entries being resolved
+	 * against the previous data are not stored.
+	 */
+	void invalidate(FlagFilter filter) {
+		version.incrementAndGet();
+		Iterator<String> flagKeys = entries.keySet().iterator();
+		while (flagKeys.hasNext()) {
+			if (filter.matches(flagKeys.next())) {
+				flagKeys.remove();
+			}
+		}
+	}
+
+	private static String toKey(String variableKey) {
+		return variableKey != null ? variableKey : FIRST_VARIABLE;
+	}
+}
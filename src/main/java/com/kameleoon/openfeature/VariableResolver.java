@@ -0,0 +1,171 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.openfeature.dto.types.DataType;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import java.util.List;
+import javax.json.JsonValue;
+
+/**
+ * VariableResolver makes typed evaluations from {@link ResolvedVariable} instances. Subclasses define where
+ * the resolved variables come from.
+ */
+abstract class VariableResolver implements Resolver {
+
+	/**
+	 * Returns the resolved variable of the flag. The variable key is {@code null} for the first variable of
+	 * the variation.
+	 */
+	abstract ResolvedVariable getResolvedVariable(String flagKey, String variableKey);
+
+	/**
+	 * Main method for getting resolution details based on provided data. The evaluation is made once per
+	 * resolved variable, so evaluations of cached variables don't allocate.
+	 */
+	@Override
+	public <T> ProviderEvaluation<T> resolve(String flagKey, T defaultValue, EvaluationContext context) {
+		ResolvedVariable resolved = getResolvedVariable(flagKey, getVariableKey(context));
+		if (resolved.isError()) {
+			return resolved.toErrorEvaluation(defaultValue);
+		}
+
+		// Check if the variable value has a required type
+		Object value = resolved.value;
+		if (!(defaultValue instanceof Value || value.getClass().equals(defaultValue.getClass()))) {
+			return resolved.toTypeMismatchEvaluation(defaultValue);
+		}
+
+		return resolved.toEvaluation();
+	}
+
+	/**
+	 * Makes an evaluation with the value converted to OpenFeature {@link Value}. The conversion of a JSON value
+	 * is kept together with the resolved variable, so it is made only once for a variable kept in memory.
+	 */
+	@Override
+	public ProviderEvaluation<Value> resolveValue(String flagKey, Value defaultValue, EvaluationContext context) {
+		ResolvedVariable resolved = getResolvedVariable(flagKey, getVariableKey(context));
+		if (resolved.isError()) {
+			return resolved.toErrorEvaluation(defaultValue);
+		}
+		return resolved.toValueEvaluation();
+	}
+
+	/**
+	 * Traced copy of {@link #resolve(String, Object, EvaluationContext)}, kept apart so untraced evaluations
+	 * don't pay for the measurements.
+	 */
+	@Override
+	public <T> ProviderEvaluation<T> resolve(String flagKey, T defaultValue, EvaluationContext context,
+			EvaluationSpan.Builder span) {
+		String variableKey = getVariableKey(context);
+		span.variableKey(variableKey).endPhase(SpanPhase.VARIABLE_KEY);
+		ResolvedVariable resolved = getResolvedVariable(flagKey, variableKey, span);
+		if (resolved.isError()) {
+			return resolved.toErrorEvaluation(defaultValue);
+		}
+		Object value = resolved.value;
+		boolean typeMatches = defaultValue instanceof Value || value.getClass().equals(defaultValue.getClass());
+		span.endPhase(SpanPhase.TYPE_CHECK);
+		return typeMatches ? resolved.<T>toEvaluation() : resolved.toTypeMismatchEvaluation(defaultValue);
+	}
+
+	/**
+	 * Traced copy of {@link #resolveValue(String, Value, EvaluationContext)}.
+	 */
+	@Override
+	public ProviderEvaluation<Value> resolveValue(String flagKey, Value defaultValue, EvaluationContext context,
+			EvaluationSpan.Builder span) {
+		String variableKey = getVariableKey(context);
+		span.variableKey(variableKey).endPhase(SpanPhase.VARIABLE_KEY);
+		ResolvedVariable resolved = getResolvedVariable(flagKey, variableKey, span);
+		if (resolved.isError()) {
+			return resolved.toErrorEvaluation(defaultValue);
+		}
+		ProviderEvaluation<Value> evaluation = resolved.toValueEvaluation();
+		span.endPhase(SpanPhase.CONVERSION);
+		return evaluation;
+	}
+
+	private ResolvedVariable getResolvedVariable(String flagKey, String variableKey, EvaluationSpan.Builder span) {
+		span.cached(isResolved(flagKey, variableKey));
+		ResolvedVariable resolved = getResolvedVariable(flagKey, variableKey);
+		span.endPhase(SpanPhase.GET_VARIATION);
+		return resolved;
+	}
+
+	/**
+	 * Makes an evaluation with the JSON value bound to the user type. The decoded object is kept together with
+	 * the resolved variable, so a variable kept in memory is decoded only once until the configuration or the
+	 * visitor data changes.
+	 */
+	@Override
+	public <T> ProviderEvaluation<T> resolveDecoded(String flagKey, T defaultValue, Class<T> type,
+			JsonDecoder<T> decoder, EvaluationContext context) {
+		ResolvedVariable resolved = getResolvedVariable(flagKey, getVariableKey(context));
+		if (resolved.isError()) {
+			return resolved.toErrorEvaluation(defaultValue);
+		}
+		if (!(resolved.value instanceof JsonValue)) {
+			return type.isInstance(resolved.value)
+					? makeResolutionDetails(type.cast(resolved.value), resolved.variant)
+					: resolved.toTypeMismatchEvaluation(defaultValue);
+		}
+		try {
+			return makeResolutionDetails(resolved.decode(decoder), resolved.variant);
+		} catch (Exception exception) {
+			return makeResolutionDetails(defaultValue, resolved.variant, ErrorCode.PARSE_ERROR, exception.getMessage());
+		}
+	}
+
+	@Override
+	public <T> T getValue(String flagKey, String variableKey, Class<T> type) {
+		ResolvedVariable resolved = getResolvedVariable(flagKey, variableKey);
+		if (resolved.isError()) {
+			return null;
+		}
+		Object value = type == Value.class ? resolved.asValue() : resolved.value;
+		return type.isInstance(value) ? type.cast(value) : null;
+	}
+
+	/**
+	 * Resolved variables are kept in memory unless a subclass overrides it.
+	 */
+	@Override
+	public boolean isResolved(String flagKey, String variableKey) {
+		return true;
+	}
+
+	@Override
+	public void prefetch(List<FlagVariable> flagVariables) {
+		for (FlagVariable flagVariable : flagVariables) {
+			getResolvedVariable(flagVariable.getFlagKey(), flagVariable.getVariableKey()).warmUp();
+		}
+	}
+
+	/**
+	 * Helper method to get the variable key from the context.
+	 */
+	static String getVariableKey(EvaluationContext context) {
+		Value variableKeyValue = context != null ? context.getValue(DataType.VARIABLE_KEY.getValue()) : null;
+		return variableKeyValue != null ? variableKeyValue.asString() : null;
+	}
+
+	/**
+	 * Helper method to create a ResolutionDetails object.
+	 */
+	private static <T> ProviderEvaluation<T> makeResolutionDetails(T value, String variant) {
+		return new ProviderEvaluation<T>(value, variant, Reason.STATIC.toString(), null, null);
+	}
+
+	/**
+	 * Helper method to create a ResolutionDetails object.
+	 */
+	private static <T> ProviderEvaluation<T> makeResolutionDetails(T value, String variant, ErrorCode errorCode,
+			String errorMessage) {
+		return new ProviderEvaluation<T>(value, variant, Reason.STATIC.toString(), errorCode, errorMessage);
+	}
+}
@@ -0,0 +1,323 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorkloadRecorder writes the calls made to the provider to a compact binary log, so the workload can be replayed
+ * later. The log starts with a header (magic number and format version), followed by one record per call: the
+ * kind of call and the time since the previous record as a variable-length integer, then the context and, for
+ * evaluations, the evaluation type, the flag key, the duration and the result. Strings are written once, as
+ * their UTF-8 length and bytes, and then referenced by their index, and a context identical to the previous one
+ * is written as a single byte.
+ * <p>
+ * Records are encoded into a memory buffer on the calling thread; the buffer is appended to the file by
+ * {@link #flush()}, which is expected to run on the background worker. Recording never fails the calls it
+ * records: after an I/O failure it is disabled and the following calls are dropped.
+ */
+final class WorkloadRecorder {
+
+	/**
+	 * Kind of a recorded call.
+	 */
+	enum Kind {
+		INITIALIZE,
+		CONTEXT_SET,
+		EVALUATION
+	}
+
+	/**
+	 * Type of an evaluation, i.e. which {@code get*Evaluation} method was called.
+	 */
+	enum ValueType {
+		BOOLEAN,
+		INTEGER,
+		DOUBLE,
+		STRING,
+		OBJECT
+	}
+
+	static final int MAGIC = 0x4B4F4657; // "KOFW"
+	static final int FORMAT_VERSION = 2;
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	static final int NO_CONTEXT = 0;
+	static final int SAME_CONTEXT = 1;
+	static final int NEW_CONTEXT = 2;
+
+	static final int NULL_VALUE = 0;
+	static final int FALSE_VALUE = 1;
+	static final int TRUE_VALUE = 2;
+	static final int INTEGER_VALUE = 3;
+	static final int DOUBLE_VALUE = 4;
+	static final int STRING_VALUE = 5;
+	static final int LIST_VALUE = 6;
+	static final int STRUCTURE_VALUE = 7;
+	static final int INSTANT_VALUE = 8;
+
+	private static final int FLUSH_THRESHOLD_BYTES = 64 * 1024;
+
+	private final File file;
+	private final Object lock = new Object();
+	private final Object fileLock = new Object();
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private final DataOutputStream output = new DataOutputStream(buffer);
+	private final Map<String, Integer> strings = new HashMap<>();
+	private final long startNanos = System.nanoTime();
+	private long lastOffsetNanos;
+	private EvaluationContext lastContext;
+	private boolean flushRequested;
+	private boolean fileStarted;
+	private volatile boolean disabled;
+
+	WorkloadRecorder(File file) {
+		this.file = file;
+		try {
+			output.writeInt(MAGIC);
+			output.writeInt(FORMAT_VERSION);
+		} catch (IOException exception) {
+			disabled = true;
+		}
+	}
+
+	/**
+	 * Records a call of {@code initialize}.
+	 *
+	 * @return {@code true} if the caller should schedule a flush
+	 */
+	boolean recordInitialize(EvaluationContext context) {
+		return recordContext(Kind.INITIALIZE, context);
+	}
+
+	/**
+	 * Records a call of {@code onContextSet}.
+	 *
+	 * @return {@code true} if the caller should schedule a flush
+	 */
+	boolean recordContextSet(EvaluationContext context) {
+		return recordContext(Kind.CONTEXT_SET, context);
+	}
+
+	/**
+	 * Records an evaluation which started at {@code callNanos}. Evaluations of user types bound by a decoder are
+	 * not recorded.
+	 *
+	 * @return {@code true} if the caller should schedule a flush
+	 */
+	boolean recordEvaluation(String flagKey, EvaluationContext context, ProviderEvaluation<?> evaluation,
+			long callNanos, long durationNanos) {
+		ValueType valueType = getValueType(evaluation.getValue());
+		if (valueType == null || disabled) {
+			return false;
+		}
+		synchronized (lock) {
+			if (disabled) {
+				return false;
+			}
+			try {
+				writeHeader(Kind.EVALUATION, callNanos);
+				writeContext(context);
+				output.writeByte(valueType.ordinal());
+				writeString(flagKey);
+				UsageLedger.writeVarLong(output, durationNanos);
+				writeString(evaluation.getVariant());
+				writeString(evaluation.getErrorCode() != null ? evaluation.getErrorCode().name() : null);
+				writeValue(evaluation.getValue());
+			} catch (IOException exception) {
+				disable();
+				return false;
+			}
+			return shouldFlush();
+		}
+	}
+
+	/**
+	 * Appends the recorded calls to the file. The file is replaced by the first flush. Records reference strings
+	 * written before them, so once a write fails recording is disabled and the following records are dropped.
+	 */
+	void flush() throws IOException {
+		synchronized (fileLock) {
+			byte[] bytes;
+			synchronized (lock) {
+				bytes = buffer.toByteArray();
+				buffer.reset();
+				flushRequested = false;
+			}
+			if (bytes.length == 0 || disabled) {
+				return;
+			}
+			try {
+				File directory = file.getParentFile();
+				if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+					throw new IOException("Unable to create directory " + directory);
+				}
+				try (OutputStream stream = new FileOutputStream(file, fileStarted)) {
+					stream.write(bytes);
+				}
+				fileStarted = true;
+			} catch (IOException exception) {
+				disable();
+				throw exception;
+			}
+		}
+	}
+
+	private boolean recordContext(Kind kind, EvaluationContext context) {
+		if (disabled) {
+			return false;
+		}
+		synchronized (lock) {
+			if (disabled) {
+				return false;
+			}
+			try {
+				writeHeader(kind, System.nanoTime());
+				writeContext(context);
+			} catch (IOException exception) {
+				disable();
+				return false;
+			}
+			return shouldFlush();
+		}
+	}
+
+	/**
+	 * Stops recording and drops the buffered records.
+	 */
+	private void disable() {
+		synchronized (lock) {
+			disabled = true;
+			buffer.reset();
+		}
+	}
+
+	private boolean shouldFlush() {
+		if (flushRequested || buffer.size() < FLUSH_THRESHOLD_BYTES) {
+			return false;
+		}
+		flushRequested = true;
+		return true;
+	}
+
+	/**
+	 * Writes the kind and the time since the previous record, which is negative when concurrent evaluations are
+	 * recorded out of order.
+	 */
+	private void writeHeader(Kind kind, long callNanos) throws IOException {
+		long offsetNanos = callNanos - startNanos;
+		output.writeByte(kind.ordinal());
+		writeSignedVarLong(output, offsetNanos - lastOffsetNanos);
+		lastOffsetNanos = offsetNanos;
+	}
+
+	private void writeContext(EvaluationContext context) throws IOException {
+		if (context == null) {
+			output.writeByte(NO_CONTEXT);
+			return;
+		}
+		if (context == lastContext) {
+			output.writeByte(SAME_CONTEXT);
+			return;
+		}
+		lastContext = context;
+		output.writeByte(NEW_CONTEXT);
+		writeString(context.getTargetingKey());
+		Map<String, Value> entries = context.asMap();
+		UsageLedger.writeVarLong(output, entries.size());
+		for (Map.Entry<String, Value> entry : entries.entrySet()) {
+			writeString(entry.getKey());
+			writeValue(entry.getValue());
+		}
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value instanceof Value.Boolean || value instanceof Boolean) {
+			boolean bool = value instanceof Boolean ? (Boolean) value : ((Value.Boolean) value).getBoolean();
+			output.writeByte(bool ? TRUE_VALUE : FALSE_VALUE);
+		} else if (value instanceof Value.Integer || value instanceof Integer) {
+			output.writeByte(INTEGER_VALUE);
+			writeSignedVarLong(output, value instanceof Integer ? (Integer) value : ((Value.Integer) value).getInteger());
+		} else if (value instanceof Value.Double || value instanceof Double) {
+			output.writeByte(DOUBLE_VALUE);
+			output.writeDouble(value instanceof Double ? (Double) value : ((Value.Double) value).getDouble());
+		} else if (value instanceof Value.String || value instanceof String) {
+			output.writeByte(STRING_VALUE);
+			writeString(value instanceof String ? (String) value : ((Value.String) value).getString());
+		} else if (value instanceof Value.List) {
+			List<Value> values = ((Value.List) value).getList();
+			output.writeByte(LIST_VALUE);
+			UsageLedger.writeVarLong(output, values.size());
+			for (Value item : values) {
+				writeValue(item);
+			}
+		} else if (value instanceof Value.Structure) {
+			Map<String, Value> structure = ((Value.Structure) value).getStructure();
+			output.writeByte(STRUCTURE_VALUE);
+			UsageLedger.writeVarLong(output, structure.size());
+			for (Map.Entry<String, Value> entry : structure.entrySet()) {
+				writeString(entry.getKey());
+				writeValue(entry.getValue());
+			}
+		} else if (value instanceof Value.Instant) {
+			Date instant = ((Value.Instant) value).asInstant();
+			output.writeByte(INSTANT_VALUE);
+			output.writeLong(instant != null ? instant.getTime() : 0L);
+		} else {
+			output.writeByte(NULL_VALUE);
+		}
+	}
+
+	/**
+	 * Writes {@code 0} for {@code null}, the index plus one of a known string, or the next index followed by
+	 * the length and the UTF-8 bytes of the string, which unlike {@link DataOutputStream#writeUTF(String)} has no
+	 * size limit.
+	 */
+	private void writeString(String value) throws IOException {
+		if (value == null) {
+			UsageLedger.writeVarLong(output, 0L);
+			return;
+		}
+		Integer index = strings.get(value);
+		if (index != null) {
+			UsageLedger.writeVarLong(output, index + 1L);
+			return;
+		}
+		index = strings.size();
+		strings.put(value, index);
+		UsageLedger.writeVarLong(output, index + 1L);
+		byte[] bytes = value.getBytes(UTF_8);
+		UsageLedger.writeVarLong(output, bytes.length);
+		output.write(bytes);
+	}
+
+	private static ValueType getValueType(Object value) {
+		if (value instanceof Boolean) {
+			return ValueType.BOOLEAN;
+		} else if (value instanceof Integer) {
+			return ValueType.INTEGER;
+		} else if (value instanceof Double) {
+			return ValueType.DOUBLE;
+		} else if (value instanceof String) {
+			return ValueType.STRING;
+		} else if (value instanceof Value) {
+			return ValueType.OBJECT;
+		}
+		return null;
+	}
+
+	static void writeSignedVarLong(DataOutputStream output, long value) throws IOException {
+		UsageLedger.writeVarLong(output, (value << 1) ^ (value >> 63));
+	}
+}
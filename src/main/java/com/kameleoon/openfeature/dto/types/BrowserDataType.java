@@ -0,0 +1,20 @@
+package com.kameleoon.openfeature.dto.types;
+
+/**
+ * BrowserDataType is used to add {@link com.kameleoon.data.Browser} using
+ * {@link dev.openfeature.sdk.EvaluationContext}.
+ */
+public enum BrowserDataType {
+	TYPE("type"),
+	VERSION("version");
+
+	private final String value;
+
+	BrowserDataType(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
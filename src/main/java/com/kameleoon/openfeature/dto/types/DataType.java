@@ -1,5 +1,8 @@
 package com.kameleoon.openfeature.dto.types;
 
+import com.kameleoon.data.BrowserType;
+import com.kameleoon.data.DeviceType;
+import com.kameleoon.data.OperatingSystemType;
 import dev.openfeature.sdk.Value;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,7 +15,13 @@ import java.util.List;
 public enum DataType {
 	VARIABLE_KEY("variableKey"),
 	CONVERSION("conversion"),
-	CUSTOM_DATA("customData");
+	CUSTOM_DATA("customData"),
+	DEVICE("device"),
+	BROWSER("browser"),
+	PAGE_VIEW("pageView"),
+	GEOLOCATION("geolocation"),
+	OPERATING_SYSTEM("operatingSystem"),
+	UNIQUE_IDENTIFIER("uniqueIdentifier");
 
 	private final String value;
 
@@ -80,4 +89,114 @@ public enum DataType {
 	public static Value makeCustomData(int id, String... values) {
 		return makeCustomData(id, Arrays.asList(values));
 	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.Device} parameters.
+	 *
+	 * @param type the type of the device
+	 * @return a {@link dev.openfeature.sdk.Value} containing the Device data
+	 */
+	public static Value makeDevice(DeviceType type) {
+		return new Value.String(type.name());
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.Browser} parameters.
+	 *
+	 * @param type    the type of the browser
+	 * @param version the version of the browser
+	 * @return a {@link dev.openfeature.sdk.Value} structure containing the Browser data
+	 */
+	public static Value makeBrowser(BrowserType type, float version) {
+		return new Value.Structure(new HashMap<String, Value>() {{
+			put(BrowserDataType.TYPE.getValue(), new Value.String(type.name()));
+			put(BrowserDataType.VERSION.getValue(), new Value.Double(version));
+		}});
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.Browser} parameters.
+	 *
+	 * @param type the type of the browser
+	 * @return a {@link dev.openfeature.sdk.Value} structure containing the Browser data
+	 */
+	public static Value makeBrowser(BrowserType type) {
+		return new Value.Structure(new HashMap<String, Value>() {{
+			put(BrowserDataType.TYPE.getValue(), new Value.String(type.name()));
+		}});
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.PageView} parameters.
+	 *
+	 * @param url       the URL of the page
+	 * @param title     the title of the page
+	 * @param referrers the IDs of the referrers
+	 * @return a {@link dev.openfeature.sdk.Value} structure containing the PageView data
+	 */
+	public static Value makePageView(String url, String title, List<Integer> referrers) {
+		List<Value> referrerList = new ArrayList<>();
+		if (referrers != null) {
+			for (Integer referrer : referrers) {
+				referrerList.add(new Value.Integer(referrer));
+			}
+		}
+		return new Value.Structure(new HashMap<String, Value>() {{
+			put(PageViewType.URL.getValue(), new Value.String(url));
+			if (title != null) {
+				put(PageViewType.TITLE.getValue(), new Value.String(title));
+			}
+			put(PageViewType.REFERRERS.getValue(), new Value.List(referrerList));
+		}});
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.PageView} parameters.
+	 *
+	 * @param url the URL of the page
+	 * @return a {@link dev.openfeature.sdk.Value} structure containing the PageView data
+	 */
+	public static Value makePageView(String url) {
+		return makePageView(url, null, null);
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.Geolocation} parameters.
+	 *
+	 * @param country the country of the visitor
+	 * @param region  the region of the visitor
+	 * @param city    the city of the visitor
+	 * @return a {@link dev.openfeature.sdk.Value} structure containing the Geolocation data
+	 */
+	public static Value makeGeolocation(String country, String region, String city) {
+		return new Value.Structure(new HashMap<String, Value>() {{
+			put(GeolocationType.COUNTRY.getValue(), new Value.String(country));
+			if (region != null) {
+				put(GeolocationType.REGION.getValue(), new Value.String(region));
+			}
+			if (city != null) {
+				put(GeolocationType.CITY.getValue(), new Value.String(city));
+			}
+		}});
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.OperatingSystem} parameters.
+	 *
+	 * @param type the type of the operating system
+	 * @return a {@link dev.openfeature.sdk.Value} containing the OperatingSystem data
+	 */
+	public static Value makeOperatingSystem(OperatingSystemType type) {
+		return new Value.String(type.name());
+	}
+
+	/**
+	 * Makes {@link dev.openfeature.sdk.Value} based on {@link com.kameleoon.data.UniqueIdentifier} parameters.
+	 *
+	 * @param value whether the visitor code is a unique identifier
+	 * @return a {@link dev.openfeature.sdk.Value} containing the UniqueIdentifier data
+	 */
+	public static Value makeUniqueIdentifier(boolean value) {
+		return new Value.Boolean(value);
+	}
 }
@@ -0,0 +1,24 @@
+package com.kameleoon.openfeature.dto.types;
+
+/**
+ * GeolocationType is used to add {@link com.kameleoon.data.Geolocation} using
+ * {@link dev.openfeature.sdk.EvaluationContext}.
+ */
+public enum GeolocationType {
+	COUNTRY("country"),
+	REGION("region"),
+	CITY("city"),
+	POSTAL_CODE("postalCode"),
+	LATITUDE("latitude"),
+	LONGITUDE("longitude");
+
+	private final String value;
+
+	GeolocationType(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
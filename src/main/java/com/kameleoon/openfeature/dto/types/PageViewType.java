@@ -0,0 +1,21 @@
+package com.kameleoon.openfeature.dto.types;
+
+/**
+ * PageViewType is used to add {@link com.kameleoon.data.PageView} using
+ * {@link dev.openfeature.sdk.EvaluationContext}.
+ */
+public enum PageViewType {
+	URL("url"),
+	TITLE("title"),
+	REFERRERS("referrers");
+
+	private final String value;
+
+	PageViewType(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
@@ -0,0 +1,108 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import kotlinx.coroutines.Deferred;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncEvaluatorTest {
+
+	private final List<Runnable> tasks = new ArrayList<>();
+	private final AsyncEvaluator evaluator = new AsyncEvaluator(tasks::add);
+	private final AtomicInteger evaluations = new AtomicInteger();
+
+	private ProviderEvaluation<Integer> evaluate(int value) {
+		evaluations.incrementAndGet();
+		return new ProviderEvaluation<>(value, "on", Reason.STATIC.toString(), null, null);
+	}
+
+	private void runTasks() {
+		for (Runnable task : tasks) {
+			task.run();
+		}
+		tasks.clear();
+	}
+
+	@Test
+	public void submit_SameRequestInFlight_SharesEvaluation() {
+		// Act
+		Deferred<ProviderEvaluation<Integer>> first = evaluator.submit("flag", "key", 1, () -> evaluate(10));
+		Deferred<ProviderEvaluation<Integer>> second = evaluator.submit("flag", "key", 1, () -> evaluate(10));
+		runTasks();
+
+		// Assert
+		assertSame(first, second);
+		assertTrue(first.isCompleted());
+		assertEquals(10, first.getCompleted().getValue());
+		assertEquals(1, evaluations.get());
+		assertEquals(0, evaluator.getInFlightCount());
+	}
+
+	@Test
+	public void submit_DifferentRequests_EvaluatesSeparately() {
+		// Act
+		Deferred<ProviderEvaluation<Integer>> first = evaluator.submit("flag", "key", 1, () -> evaluate(10));
+		Deferred<ProviderEvaluation<Integer>> second = evaluator.submit("flag", "other", 1, () -> evaluate(20));
+		Deferred<ProviderEvaluation<Integer>> third = evaluator.submit("flag", "key", 2, () -> evaluate(30));
+		runTasks();
+
+		// Assert
+		assertNotSame(first, second);
+		assertNotSame(first, third);
+		assertEquals(3, evaluations.get());
+	}
+
+	@Test
+	public void submit_AfterCompletion_StartsNewEvaluation() {
+		// Arrange
+		Deferred<ProviderEvaluation<Integer>> first = evaluator.submit("flag", null, 1, () -> evaluate(10));
+		runTasks();
+
+		// Act
+		Deferred<ProviderEvaluation<Integer>> second = evaluator.submit("flag", null, 1, () -> evaluate(20));
+
+		// Assert
+		assertNotSame(first, second);
+		assertFalse(second.isCompleted());
+	}
+
+	@Test
+	public void await_CompletedInTime_ReturnsEvaluation() throws InterruptedException {
+		// Arrange
+		Deferred<ProviderEvaluation<Integer>> deferred = evaluator.submit("flag", null, 1, () -> evaluate(10));
+		runTasks();
+
+		// Act
+		ProviderEvaluation<Integer> result = AsyncEvaluator.await(deferred, TimeUnit.MILLISECONDS.toNanos(10));
+
+		// Assert
+		assertEquals(10, result.getValue());
+	}
+
+	@Test
+	public void await_NotCompletedInTime_ReturnsNullAndKeepsEvaluating() throws InterruptedException {
+		// Arrange
+		Deferred<ProviderEvaluation<Integer>> deferred = evaluator.submit("flag", null, 1, () -> evaluate(10));
+
+		// Act
+		ProviderEvaluation<Integer> result = AsyncEvaluator.await(deferred, TimeUnit.MILLISECONDS.toNanos(10));
+		runTasks();
+
+		// Assert
+		assertNull(result);
+		assertTrue(deferred.isCompleted());
+		assertEquals(10, deferred.getCompleted().getValue());
+	}
+}
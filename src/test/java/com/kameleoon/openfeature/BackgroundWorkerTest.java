@@ -0,0 +1,77 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BackgroundWorkerTest {
+
+	private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+	private final BackgroundWorker worker = new BackgroundWorker(Runnable::run);
+
+	@Test
+	public void execute_NotPaused_RunsImmediately() {
+		// Act
+		worker.execute(() -> executed.add("task"));
+
+		// Assert
+		assertEquals(Collections.singletonList("task"), executed);
+	}
+
+	@Test
+	public void execute_Paused_PostponesUntilResume() {
+		// Arrange
+		worker.pause();
+
+		// Act
+		worker.execute(() -> executed.add("task"));
+
+		// Assert
+		assertTrue(worker.isPaused());
+		assertTrue(executed.isEmpty());
+
+		// Act
+		worker.resume();
+
+		// Assert
+		assertFalse(worker.isPaused());
+		assertEquals(Collections.singletonList("task"), executed);
+	}
+
+	@Test
+	public void execute_PausedWithSameKey_RunsOnlyLatestTask() {
+		// Arrange
+		worker.pause();
+
+		// Act
+		worker.execute("a", () -> executed.add("a1"));
+		worker.execute("b", () -> executed.add("b1"));
+		worker.execute("a", () -> executed.add("a2"));
+		worker.resume();
+
+		// Assert
+		assertEquals(Arrays.asList("b1", "a2"), executed);
+	}
+
+	@Test
+	public void shutdown_DropsPostponedAndNewTasks() {
+		// Arrange
+		worker.pause();
+		worker.execute(() -> executed.add("postponed"));
+
+		// Act
+		worker.shutdown();
+		worker.resume();
+		worker.execute(() -> executed.add("new"));
+
+		// Assert
+		assertTrue(executed.isEmpty());
+	}
+}
@@ -0,0 +1,78 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.openfeature.dto.types.DataType;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BundledFeatureClientTest {
+
+	private static final String CONFIGURATION = "{\"featureFlags\": {"
+			+ "\"banner\": {\"variation\": \"on\", \"variables\": {\"title\": \"Hello\", \"count\": 5, \"ratio\": 0.5}},"
+			+ "\"checkout\": {\"variation\": \"off\", \"variables\": {\"enabled\": false}}"
+			+ "}}";
+
+	private KameleoonResolver makeResolver() throws IOException {
+		FeatureClient client = BundledFeatureClient.read(new StringReader(CONFIGURATION));
+		return new KameleoonResolver(client, KameleoonProviderConfig.defaultConfig());
+	}
+
+	private static EvaluationContext withVariableKey(String variableKey) {
+		return new ImmutableContext("visitor",
+				Collections.<String, Value>singletonMap(DataType.VARIABLE_KEY.getValue(), new Value.String(variableKey)));
+	}
+
+	@Test
+	public void resolve_BundledVariables_ReturnsTheirValues() throws IOException {
+		// Arrange
+		KameleoonResolver resolver = makeResolver();
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("checkout")));
+
+		// Act
+		ProviderEvaluation<String> title = resolver.resolve("banner", "default", null);
+		ProviderEvaluation<Integer> count = resolver.resolve("banner", 0, withVariableKey("count"));
+		ProviderEvaluation<Double> ratio = resolver.resolve("banner", 0.0, withVariableKey("ratio"));
+		ProviderEvaluation<Boolean> enabled = resolver.resolve("checkout", true, null);
+
+		// Assert
+		assertEquals("Hello", title.getValue());
+		assertEquals("on", title.getVariant());
+		assertEquals(Integer.valueOf(5), count.getValue());
+		assertEquals(Double.valueOf(0.5), ratio.getValue());
+		assertEquals(Boolean.FALSE, enabled.getValue());
+		assertEquals("off", enabled.getVariant());
+		assertNull(enabled.getErrorCode());
+		assertTrue(resolver.isResolved("checkout", null));
+	}
+
+	@Test
+	public void resolve_FlagNotBundled_ReturnsFlagNotFound() throws IOException {
+		// Arrange
+		KameleoonResolver resolver = makeResolver();
+
+		// Act
+		ProviderEvaluation<Boolean> result = resolver.resolve("unknown", true, null);
+
+		// Assert
+		assertEquals(Boolean.TRUE, result.getValue());
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, result.getErrorCode());
+	}
+
+	@Test
+	public void read_NoFeatureFlags_ThrowsIOException() {
+		// Act & Assert
+		assertThrows(IOException.class, () -> BundledFeatureClient.read(new StringReader("{\"flags\": {}}")));
+	}
+}
@@ -0,0 +1,98 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CircuitBreakerTest {
+
+	private static final long COOLDOWN = 1_000L;
+
+	private final CircuitBreaker breaker = new CircuitBreaker(2, COOLDOWN);
+	private final ResolvedVariable failure = ResolvedVariable.ofError(null, ErrorCode.GENERAL, "failure");
+
+	@Test
+	public void acquire_FailuresBelowThreshold_AllowsResolution() {
+		// Act
+		breaker.onFailure(failure, 0L);
+
+		// Assert
+		assertNull(breaker.acquire(1L));
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+	}
+
+	@Test
+	public void acquire_ThresholdReached_ReturnsLastFailureUntilCooldownEnds() {
+		// Arrange
+		breaker.onFailure(failure, 0L);
+		breaker.onFailure(failure, 10L);
+
+		// Act & Assert
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		assertSame(failure, breaker.acquire(10L + COOLDOWN - 1));
+		assertNull(breaker.acquire(10L + COOLDOWN));
+		assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+		assertSame(failure, breaker.acquire(10L + COOLDOWN + 1));
+	}
+
+	@Test
+	public void onSuccess_HalfOpenProbe_ClosesCircuit() {
+		// Arrange
+		breaker.onFailure(failure, 0L);
+		breaker.onFailure(failure, 0L);
+		breaker.acquire(COOLDOWN);
+
+		// Act
+		breaker.onSuccess();
+
+		// Assert
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertNull(breaker.acquire(COOLDOWN));
+	}
+
+	@Test
+	public void onFailure_HalfOpenProbe_OpensCircuitAgain() {
+		// Arrange
+		breaker.onFailure(failure, 0L);
+		breaker.onFailure(failure, 0L);
+		breaker.acquire(COOLDOWN);
+
+		// Act
+		breaker.onFailure(failure, COOLDOWN);
+
+		// Assert
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		assertSame(failure, breaker.acquire(COOLDOWN + 1));
+	}
+
+	@Test
+	public void onSuccess_AfterFailureBelowThreshold_ResetsFailures() {
+		// Arrange
+		breaker.onFailure(failure, 0L);
+
+		// Act
+		breaker.onSuccess();
+		breaker.onFailure(failure, 1L);
+
+		// Assert
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertNull(breaker.acquire(2L));
+	}
+
+	@Test
+	public void get_FlagNeverFailed_HasNoBreaker() {
+		// Arrange
+		CircuitBreakers breakers = new CircuitBreakers(2, COOLDOWN);
+
+		// Act
+		CircuitBreaker created = breakers.getOrCreate("failed");
+
+		// Assert
+		assertNull(breakers.get("healthy"));
+		assertSame(created, breakers.get("failed"));
+		assertEquals(1, breakers.getStates().size());
+	}
+}
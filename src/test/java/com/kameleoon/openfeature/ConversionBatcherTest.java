@@ -0,0 +1,49 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.data.Conversion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConversionBatcherTest {
+
+	private final ConversionBatcher batcher = new ConversionBatcher();
+
+	@Test
+	public void add_SameGoal_SumsRevenueIntoOneConversion() {
+		// Arrange
+		batcher.add(new Conversion(7, 10.0f, false));
+		batcher.add(new Conversion(3, 0.0f, false));
+		int count = batcher.add(new Conversion(7, 2.5f, false));
+
+		// Act
+		List<Conversion> conversions = batcher.drain();
+
+		// Assert
+		assertEquals(3, count);
+		assertEquals(2, conversions.size());
+		assertEquals(7, conversions.get(0).getGoalId());
+		assertEquals(12.5f, conversions.get(0).getRevenue());
+		assertEquals(3, conversions.get(1).getGoalId());
+		assertEquals(0.0f, conversions.get(1).getRevenue());
+	}
+
+	@Test
+	public void drain_StartsNewBatch() {
+		// Arrange
+		batcher.add(new Conversion(7, 10.0f, false));
+		batcher.drain();
+
+		// Act
+		int count = batcher.add(new Conversion(7, 1.0f, false));
+		List<Conversion> conversions = batcher.drain();
+
+		// Assert
+		assertEquals(1, count);
+		assertEquals(1.0f, conversions.get(0).getRevenue());
+		assertTrue(batcher.drain().isEmpty());
+	}
+}
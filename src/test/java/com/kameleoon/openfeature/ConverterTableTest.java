@@ -0,0 +1,56 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.data.CustomData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConverterTableTest {
+
+	@Test
+	public void get_RegisteredKeys_ReturnsTheirConverters() {
+		// Arrange
+		Map<String, ValueConverter> entries = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			int index = i;
+			entries.put("key" + i, value -> new CustomData(index));
+		}
+		ConverterTable table = new ConverterTable(entries);
+
+		// Act & Assert
+		for (Map.Entry<String, ValueConverter> entry : entries.entrySet()) {
+			assertSame(entry.getValue(), table.get(new String(entry.getKey())));
+		}
+		assertNull(table.get("unknown"));
+	}
+
+	@Test
+	public void get_KeysWithEqualHashes_ReturnsTheirConverters() {
+		// Arrange
+		ValueConverter first = value -> null;
+		ValueConverter second = value -> null;
+		Map<String, ValueConverter> entries = new HashMap<>();
+		// "Aa" and "BB" have the same hash code
+		entries.put("Aa", first);
+		entries.put("BB", second);
+		ConverterTable table = new ConverterTable(entries);
+
+		// Act & Assert
+		assertSame(first, table.get("Aa"));
+		assertSame(second, table.get("BB"));
+		assertNull(table.get("C#"));
+	}
+
+	@Test
+	public void get_EmptyTable_ReturnsNull() {
+		// Arrange
+		ConverterTable table = new ConverterTable(new HashMap<>());
+
+		// Act & Assert
+		assertNull(table.get("conversion"));
+	}
+}
@@ -1,8 +1,17 @@
 package com.kameleoon.openfeature;
 
+import com.kameleoon.data.Browser;
+import com.kameleoon.data.BrowserType;
 import com.kameleoon.data.Conversion;
 import com.kameleoon.data.CustomData;
 import com.kameleoon.data.Data;
+import com.kameleoon.data.Device;
+import com.kameleoon.data.DeviceType;
+import com.kameleoon.data.Geolocation;
+import com.kameleoon.data.OperatingSystem;
+import com.kameleoon.data.OperatingSystemType;
+import com.kameleoon.data.PageView;
+import com.kameleoon.data.UniqueIdentifier;
 import com.kameleoon.logging.KameleoonLogger;
 import com.kameleoon.logging.LogLevel;
 import com.kameleoon.openfeature.dto.types.ConversionType;
@@ -159,6 +168,74 @@ public class DataConverterTest {
 		assertEquals(index2, customData.get(1).getId());
 	}
 
+	@Test
+	public void toKameleoonData_VisitorDataTypes_ReturnsKameleoonData() {
+		// Arrange
+		Map<String, Value> visitorDataDictionary = new HashMap<String, Value>() {{
+			put(DataType.DEVICE.getValue(), DataType.makeDevice(DeviceType.PHONE));
+			put(DataType.BROWSER.getValue(), DataType.makeBrowser(BrowserType.CHROME, 120f));
+			put(DataType.PAGE_VIEW.getValue(), DataType.makePageView("https://example.com", "Home",
+					Collections.singletonList(3)));
+			put(DataType.GEOLOCATION.getValue(), DataType.makeGeolocation("France", null, "Paris"));
+			put(DataType.OPERATING_SYSTEM.getValue(), DataType.makeOperatingSystem(OperatingSystemType.ANDROID));
+			put(DataType.UNIQUE_IDENTIFIER.getValue(), DataType.makeUniqueIdentifier(true));
+		}};
+		EvaluationContext context = new ImmutableContext("", visitorDataDictionary);
+
+		// Act
+		List<Data> result = DataConverter.toKameleoon(context);
+
+		// Assert
+		assertEquals(6, result.size());
+		assertEquals(1, result.stream().filter(Device.class::isInstance).count());
+		assertEquals(1, result.stream().filter(Browser.class::isInstance).count());
+		assertEquals(1, result.stream().filter(PageView.class::isInstance).count());
+		assertEquals(1, result.stream().filter(Geolocation.class::isInstance).count());
+		assertEquals(1, result.stream().filter(OperatingSystem.class::isInstance).count());
+		assertEquals(1, result.stream().filter(UniqueIdentifier.class::isInstance).count());
+	}
+
+	@Test
+	public void toKameleoonData_UnknownDeviceType_SkipsValue() {
+		// Arrange
+		EvaluationContext context = new ImmutableContext("",
+				Collections.singletonMap(DataType.DEVICE.getValue(), new Value.String("watch")));
+
+		// Act
+		List<Data> result = DataConverter.toKameleoon(context);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	public void toKameleoonData_RegisteredConverter_UsesConverter() {
+		// Arrange
+		String key = "loyaltyTier";
+		DataConverter.registerConverter(key, value -> new CustomData(7, value.asString()));
+		EvaluationContext context = new ImmutableContext("",
+				Collections.singletonMap(key, new Value.String("gold")));
+
+		try {
+			// Act
+			List<Data> result = DataConverter.toKameleoon(context);
+
+			// Assert
+			assertEquals(1, result.size());
+			assertEquals(7, ((CustomData) result.get(0)).getId());
+		} finally {
+			DataConverter.unregisterConverter(key);
+		}
+		assertTrue(DataConverter.toKameleoon(context).isEmpty());
+	}
+
+	@Test
+	public void registerConverter_VariableKey_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThrows(IllegalArgumentException.class,
+				() -> DataConverter.registerConverter(DataType.VARIABLE_KEY.getValue(), value -> null));
+	}
+
 	@ParameterizedTest
 	@MethodSource("provideTestData")
 	public void toOpenFeature_ReturnsCorrectValue(Object input, Value expected) {
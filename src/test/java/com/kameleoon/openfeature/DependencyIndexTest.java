@@ -0,0 +1,135 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.data.DeviceType;
+import com.kameleoon.openfeature.dto.types.DataType;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependencyIndexTest {
+
+	private static DependencyIndex makeIndex() {
+		Map<String, Set<DataDimension>> dependencies = new HashMap<>();
+		dependencies.put("premium", Collections.singleton(DataDimension.customData(7)));
+		dependencies.put("checkout", new HashSet<>(Arrays.asList(DataDimension.goal(3), DataDimension.of(DataType.DEVICE))));
+		dependencies.put("profile", Collections.singleton(DataDimension.of(DataType.CUSTOM_DATA)));
+		dependencies.put("static", Collections.<DataDimension>emptySet());
+		return new DependencyIndex(dependencies);
+	}
+
+	private static EvaluationContext makeContext(String key, Value value) {
+		return new ImmutableContext("visitor", Collections.singletonMap(key, value));
+	}
+
+	@Test
+	public void getAffectedFlags_CustomDataIndex_MatchesDependentAndUndeclaredFlags() {
+		// Arrange
+		DependencyIndex index = makeIndex();
+
+		// Act
+		VariableCache.FlagFilter affected = index.getAffectedFlags(Collections.singleton(DataDimension.customData(7)));
+
+		// Assert
+		assertTrue(affected.matches("premium"));
+		assertTrue(affected.matches("profile"));
+		assertTrue(affected.matches("undeclared"));
+		assertFalse(affected.matches("checkout"));
+		assertFalse(affected.matches("static"));
+	}
+
+	@Test
+	public void getAffectedFlags_OtherCustomDataIndex_KeepsFlagsOfIndex() {
+		// Arrange
+		DependencyIndex index = makeIndex();
+
+		// Act
+		VariableCache.FlagFilter affected = index.getAffectedFlags(Collections.singleton(DataDimension.customData(2)));
+
+		// Assert
+		assertFalse(affected.matches("premium"));
+		assertTrue(affected.matches("profile"));
+	}
+
+	@Test
+	public void getAffectedFlags_NoDeclaredDependencies_MatchesEveryFlag() {
+		// Arrange
+		DependencyIndex index = new DependencyIndex(Collections.<String, Set<DataDimension>>emptyMap());
+
+		// Act
+		VariableCache.FlagFilter affected = index.getAffectedFlags(Collections.singleton(DataDimension.goal(1)));
+
+		// Assert
+		assertTrue(affected.matches("any"));
+	}
+
+	@Test
+	public void getChanges_SameCustomDataAgain_ReturnsNoChange() {
+		// Arrange
+		EvaluationContext oldContext = makeContext(DataType.CUSTOM_DATA.getValue(), DataType.makeCustomData(7, "gold"));
+		EvaluationContext newContext = makeContext(DataType.CUSTOM_DATA.getValue(), DataType.makeCustomData(7, "gold"));
+
+		// Act
+		Set<DataDimension> changes = DependencyIndex.getChanges(oldContext, newContext);
+
+		// Assert
+		assertTrue(changes.isEmpty());
+	}
+
+	@Test
+	public void getChanges_ChangedCustomDataAndDevice_ReturnsTheirDimensions() {
+		// Arrange
+		Map<String, Value> oldData = new HashMap<>();
+		oldData.put(DataType.CUSTOM_DATA.getValue(), new Value.List(Arrays.<Value>asList(
+				DataType.makeCustomData(7, "gold"), DataType.makeCustomData(8, "fr"))));
+		oldData.put(DataType.DEVICE.getValue(), DataType.makeDevice(DeviceType.PHONE));
+		Map<String, Value> newData = new HashMap<>();
+		newData.put(DataType.CUSTOM_DATA.getValue(), new Value.List(Arrays.<Value>asList(
+				DataType.makeCustomData(7, "silver"), DataType.makeCustomData(8, "fr"))));
+		newData.put(DataType.DEVICE.getValue(), DataType.makeDevice(DeviceType.TABLET));
+		newData.put(DataType.VARIABLE_KEY.getValue(), new Value.String("title"));
+
+		// Act
+		Set<DataDimension> changes = DependencyIndex.getChanges(new ImmutableContext("visitor", oldData),
+				new ImmutableContext("visitor", newData));
+
+		// Assert
+		assertEquals(new HashSet<>(Arrays.asList(DataDimension.customData(7), DataDimension.of(DataType.DEVICE))),
+				changes);
+	}
+
+	@Test
+	public void getChanges_SameConversionAgain_ReturnsGoal() {
+		// Arrange
+		EvaluationContext context = makeContext(DataType.CONVERSION.getValue(), DataType.makeConversion(3, 5f));
+
+		// Act
+		Set<DataDimension> changes = DependencyIndex.getChanges(context, context);
+
+		// Assert
+		assertEquals(Collections.singleton(DataDimension.goal(3)), changes);
+	}
+
+	@Test
+	public void getChanges_KeyWithoutConverter_ReturnsNoChange() {
+		// Arrange
+		EvaluationContext context = makeContext("unknown", new Value.String("value"));
+
+		// Act
+		Set<DataDimension> changes = DependencyIndex.getChanges(null, context);
+
+		// Assert
+		assertTrue(changes.isEmpty());
+	}
+}
@@ -0,0 +1,101 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EvaluationRecorderTest {
+
+	@Test
+	public void constructor_CapacityNotPowerOfTwo_RoundsUp() {
+		// Act
+		EvaluationRecorder recorder = new EvaluationRecorder(100);
+
+		// Assert
+		assertEquals(128, recorder.getCapacity());
+	}
+
+	@Test
+	public void dump_Recorded_ReturnsRecordsInOrder() {
+		// Arrange
+		EvaluationRecorder recorder = new EvaluationRecorder(16);
+
+		// Act
+		recorder.record("flag1", null, "on", "STATIC", null, 100);
+		recorder.record("flag2", "var", null, "ERROR", ErrorCode.FLAG_NOT_FOUND, 200);
+		List<EvaluationRecord> records = recorder.dump();
+
+		// Assert
+		assertEquals(2, records.size());
+		EvaluationRecord first = records.get(0);
+		assertEquals(0, first.getSequence());
+		assertEquals("flag1", first.getFlagKey());
+		assertNull(first.getVariableKey());
+		assertEquals("on", first.getVariant());
+		assertEquals("STATIC", first.getReason());
+		assertNull(first.getErrorCode());
+		assertEquals(100, first.getLatencyNanos());
+		assertEquals(Thread.currentThread().getName(), first.getThreadName());
+		EvaluationRecord second = records.get(1);
+		assertEquals("var", second.getVariableKey());
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, second.getErrorCode());
+	}
+
+	@Test
+	public void dump_MoreRecordsThanCapacity_KeepsLatest() {
+		// Arrange
+		EvaluationRecorder recorder = new EvaluationRecorder(16);
+
+		// Act
+		for (int i = 0; i < 40; i++) {
+			recorder.record("flag" + i, null, null, null, null, i);
+		}
+		List<EvaluationRecord> records = recorder.dump();
+
+		// Assert
+		assertEquals(16, records.size());
+		assertEquals("flag24", records.get(0).getFlagKey());
+		assertEquals("flag39", records.get(15).getFlagKey());
+	}
+
+	@Test
+	public void dump_ConcurrentWriters_ReturnsConsistentRecords() throws InterruptedException {
+		// Arrange
+		EvaluationRecorder recorder = new EvaluationRecorder(64);
+		List<Thread> writers = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			String flagKey = "flag" + t;
+			Thread writer = new Thread(() -> {
+				for (int i = 0; i < 20_000; i++) {
+					recorder.record(flagKey, flagKey, flagKey, null, null, i);
+				}
+			}, flagKey);
+			writers.add(writer);
+			writer.start();
+		}
+
+		// Act
+		List<EvaluationRecord> records = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			records.addAll(recorder.dump());
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		records.addAll(recorder.dump());
+
+		// Assert
+		assertTrue(records.size() >= 64);
+		for (EvaluationRecord record : records) {
+			assertEquals(record.getFlagKey(), record.getVariableKey());
+			assertEquals(record.getFlagKey(), record.getVariant());
+			assertEquals(record.getFlagKey(), record.getThreadName());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EvaluationTracerTest {
+
+	private static final Executor DIRECT = Runnable::run;
+
+	@Test
+	public void sample_QuarterRate_SamplesEveryFourthEvaluation() {
+		// Arrange
+		EvaluationTracer tracer = new EvaluationTracer(0.25, new InMemorySpanExporter(1), DIRECT);
+
+		// Act
+		int sampled = 0;
+		for (int i = 0; i < 100; i++) {
+			if (tracer.sample()) {
+				sampled++;
+			}
+		}
+
+		// Assert
+		assertEquals(25, sampled);
+	}
+
+	@Test
+	public void sample_FullRate_SamplesEveryEvaluation() {
+		// Arrange
+		EvaluationTracer tracer = new EvaluationTracer(1.0, new InMemorySpanExporter(1), DIRECT);
+
+		// Act & Assert
+		assertTrue(tracer.sample());
+		assertTrue(tracer.sample());
+	}
+
+	@Test
+	public void export_TracedResolution_ExportsSpanWithPhases() throws IOException {
+		// Arrange
+		InMemorySpanExporter exporter = new InMemorySpanExporter(10);
+		EvaluationTracer tracer = new EvaluationTracer(1.0, exporter, DIRECT);
+		FeatureClient client = BundledFeatureClient.read(new StringReader(
+				"{\"featureFlags\": {\"banner\": {\"variation\": \"on\", \"variables\": {\"title\": \"Hello\"}}}}"));
+		KameleoonResolver resolver = new KameleoonResolver(client, KameleoonProviderConfig.defaultConfig());
+		EvaluationSpan.Builder span = new EvaluationSpan.Builder("banner");
+
+		// Act
+		ProviderEvaluation<String> evaluation = resolver.resolve("banner", "default", null, span);
+		tracer.export(span, evaluation);
+
+		// Assert
+		List<EvaluationSpan> spans = exporter.getSpans();
+		assertEquals(1, spans.size());
+		EvaluationSpan exported = spans.get(0);
+		assertEquals("banner", exported.getFlagKey());
+		assertEquals("on", exported.getVariant());
+		assertEquals("Hello", evaluation.getValue());
+		assertFalse(exported.isCached());
+		assertTrue(exported.getDurationNanos() >= exported.getPhaseNanos(SpanPhase.GET_VARIATION));
+	}
+
+	@Test
+	public void export_ExporterThrows_DoesNotPropagate() {
+		// Arrange
+		EvaluationTracer tracer = new EvaluationTracer(1.0, span -> {
+			throw new IllegalStateException("exporter failure");
+		}, DIRECT);
+		ProviderEvaluation<Boolean> evaluation = new ProviderEvaluation<>(true, "on", "STATIC", null, null);
+
+		// Act & Assert
+		tracer.export(new EvaluationSpan.Builder("flag"), evaluation);
+	}
+
+	@Test
+	public void export_CapacityReached_DropsOldestSpan() {
+		// Arrange
+		InMemorySpanExporter exporter = new InMemorySpanExporter(2);
+		EvaluationTracer tracer = new EvaluationTracer(1.0, exporter, DIRECT);
+		ProviderEvaluation<Boolean> evaluation = new ProviderEvaluation<>(true, "on", "STATIC", null, null);
+
+		// Act
+		tracer.export(new EvaluationSpan.Builder("first"), evaluation);
+		tracer.export(new EvaluationSpan.Builder("second"), evaluation);
+		tracer.export(new EvaluationSpan.Builder("third"), evaluation);
+
+		// Assert
+		List<EvaluationSpan> spans = exporter.getSpans();
+		assertEquals(2, spans.size());
+		assertEquals("second", spans.get(0).getFlagKey());
+		assertEquals("third", spans.get(1).getFlagKey());
+	}
+}
@@ -0,0 +1,96 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.events.OpenFeatureEvents;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderError;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderNotReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderStale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EventDispatcherTest {
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+	private final LinkedBlockingQueue<OpenFeatureEvents> dispatched = new LinkedBlockingQueue<>();
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private EventDispatcher makeDispatcher(long windowMillis) {
+		return new EventDispatcher(dispatched::add, executor, TimeUnit.MILLISECONDS.toNanos(windowMillis));
+	}
+
+	private List<OpenFeatureEvents> takeDispatched(int count) throws InterruptedException {
+		List<OpenFeatureEvents> events = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			OpenFeatureEvents event = dispatched.poll(5, TimeUnit.SECONDS);
+			if (event == null) {
+				break;
+			}
+			events.add(event);
+		}
+		return events;
+	}
+
+	@Test
+	public void publish_AfterQuietPeriod_DispatchesRightAway() throws InterruptedException {
+		// Arrange
+		EventDispatcher dispatcher = makeDispatcher(TimeUnit.MINUTES.toMillis(1));
+
+		// Act
+		dispatcher.publish(ProviderReady.INSTANCE);
+
+		// Assert
+		assertEquals(Collections.singletonList(ProviderReady.INSTANCE), takeDispatched(1));
+	}
+
+	@Test
+	public void publish_BurstWithinWindow_KeepsLatestEventOfEachType() throws InterruptedException {
+		// Arrange
+		EventDispatcher dispatcher = makeDispatcher(100);
+		ProviderError lastError = new ProviderError(new IllegalStateException("second"));
+		dispatcher.publish(ProviderReady.INSTANCE);
+		takeDispatched(1);
+
+		// Act
+		dispatcher.publish(ProviderStale.INSTANCE);
+		dispatcher.publish(new ProviderError(new IllegalStateException("first")));
+		dispatcher.publish(ProviderStale.INSTANCE);
+		dispatcher.publish(lastError);
+
+		// Assert
+		assertEquals(Arrays.asList(ProviderStale.INSTANCE, lastError), takeDispatched(2));
+		assertNull(dispatched.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void shutdown_DropsWaitingEvents() throws InterruptedException {
+		// Arrange
+		EventDispatcher dispatcher = makeDispatcher(100);
+		dispatcher.publish(ProviderReady.INSTANCE);
+		takeDispatched(1);
+		dispatcher.publish(ProviderStale.INSTANCE);
+
+		// Act
+		dispatcher.shutdown();
+		dispatcher.publish(ProviderNotReady.INSTANCE);
+
+		// Assert
+		assertNull(dispatched.poll(300, TimeUnit.MILLISECONDS));
+	}
+}
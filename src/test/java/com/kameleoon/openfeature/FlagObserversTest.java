@@ -0,0 +1,120 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.Value;
+import kotlinx.coroutines.flow.StateFlow;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FlagObserversTest {
+
+	private final Resolver resolverMock = mock(Resolver.class);
+	private final FlagObservers observers = new FlagObservers();
+
+	@Test
+	public void isSupportedType_ReturnsTrueOnlyForOpenFeatureTypes() {
+		// Assert
+		assertTrue(FlagObservers.isSupportedType(Boolean.class));
+		assertTrue(FlagObservers.isSupportedType(Integer.class));
+		assertTrue(FlagObservers.isSupportedType(Double.class));
+		assertTrue(FlagObservers.isSupportedType(String.class));
+		assertTrue(FlagObservers.isSupportedType(Value.class));
+		assertFalse(FlagObservers.isSupportedType(Long.class));
+	}
+
+	@Test
+	public void observe_NewFlagVariable_StartsWithDefaultWithoutResolving() {
+		// Act
+		StateFlow<Integer> flow = observers.observe("flag", "key", Integer.class, 5);
+
+		// Assert
+		assertEquals(Integer.valueOf(5), flow.getValue());
+		verify(resolverMock, never()).getValue("flag", "key", Integer.class);
+	}
+
+	@Test
+	public void observe_SameFlagVariable_ReturnsFlowWithSameState() {
+		// Arrange
+		when(resolverMock.getValue("flag", "key", Integer.class)).thenReturn(10);
+		StateFlow<Integer> first = observers.observe("flag", "key", Integer.class, 0);
+
+		// Act
+		observers.refresh(resolverMock);
+		StateFlow<Integer> second = observers.observe("flag", "key", Integer.class, 0);
+
+		// Assert
+		assertEquals(Integer.valueOf(10), first.getValue());
+		assertEquals(Integer.valueOf(10), second.getValue());
+		verify(resolverMock, times(1)).getValue("flag", "key", Integer.class);
+	}
+
+	@Test
+	public void refresh_UpdatesObservedValues() {
+		// Arrange
+		when(resolverMock.getValue("flag", null, String.class)).thenReturn("old");
+		StateFlow<String> flow = observers.observe("flag", null, String.class, null);
+		observers.refresh(resolverMock);
+		when(resolverMock.getValue("flag", null, String.class)).thenReturn("new");
+
+		// Act
+		observers.refresh(resolverMock);
+
+		// Assert
+		assertEquals("new", flow.getValue());
+	}
+
+	@Test
+	public void refresh_FlagDisappeared_EmitsNull() {
+		// Arrange
+		Value value = new Value.String("v");
+		when(resolverMock.getValue("flag", null, Value.class)).thenReturn(value);
+		StateFlow<Value> flow = observers.observe("flag", null, Value.class, null);
+		observers.refresh(resolverMock);
+		assertSame(value, flow.getValue());
+		when(resolverMock.getValue("flag", null, Value.class)).thenReturn(null);
+
+		// Act
+		observers.refresh(resolverMock);
+
+		// Assert
+		assertNull(flow.getValue());
+	}
+
+	@Test
+	public void refresh_FlagDisappeared_EmitsDefaultValue() {
+		// Arrange
+		when(resolverMock.getValue("flag", null, Boolean.class)).thenReturn(true);
+		StateFlow<Boolean> flow = observers.observe("flag", null, Boolean.class, false);
+		observers.refresh(resolverMock);
+		when(resolverMock.getValue("flag", null, Boolean.class)).thenReturn(null);
+
+		// Act
+		observers.refresh(resolverMock);
+
+		// Assert
+		assertEquals(false, flow.getValue());
+	}
+
+	@Test
+	public void clear_ObservedFlagVariables_RefreshNoLongerResolves() {
+		// Arrange
+		observers.observe("flag", null, String.class, null);
+
+		// Act
+		observers.clear();
+		observers.refresh(resolverMock);
+
+		// Assert
+		assertTrue(observers.isEmpty());
+		verify(resolverMock, never()).getValue("flag", null, String.class);
+	}
+}
@@ -0,0 +1,69 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import com.kameleoon.KameleoonClient;
+import com.kameleoon.types.Variable;
+import com.kameleoon.types.Variation;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs {@link StressHarness} against {@link KameleoonProvider} with an in-memory client for 1 to 16 threads.
+ * The duration of each run can be increased with the {@code kameleoon.stress.durationMillis} system property.
+ */
+public class KameleoonProviderStressTest {
+
+	private static final long DURATION_MILLIS = Long.getLong("kameleoon.stress.durationMillis", 200L);
+	private static final int MAX_THREADS = 16;
+
+	private static final Variation VARIATION;
+
+	static {
+		Map<String, Variable> variables = new HashMap<>();
+		variables.put("boolean", new Variable("boolean", "BOOLEAN", true));
+		variables.put("integer", new Variable("integer", "NUMBER", 10));
+		variables.put("double", new Variable("double", "NUMBER", 10.5));
+		variables.put("string", new Variable("string", "STRING", "value"));
+		VARIATION = new Variation(StressHarness.VARIANT, -1, -1, variables);
+	}
+
+	private static KameleoonProvider makeProvider() {
+		// Stub-only mocks don't record invocations, so they don't grow under load
+		KameleoonClient client = mock(KameleoonClient.class, withSettings().stubOnly());
+		FeatureClient featureClient = new FeatureClient() {
+			@Override
+			public Variation getVariation(String flagKey) {
+				return VARIATION;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+		KameleoonProviderConfig config = KameleoonProviderConfig.defaultConfig();
+		return new KameleoonProvider("stressSiteCode", client, new KameleoonResolver(featureClient, config), config,
+				mock(Context.class, withSettings().stubOnly()));
+	}
+
+	@Test
+	public void evaluations_ConcurrentContextChangesAndShutdown_NoFailures() throws InterruptedException {
+		for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+			// Arrange
+			StressHarness harness = new StressHarness(threads, DURATION_MILLIS, 5, true);
+
+			// Act
+			StressHarness.Report report = harness.run(KameleoonProviderStressTest::makeProvider);
+
+			// Assert
+			System.out.println(report);
+			assertEquals(0, report.failureCount, report.failures.toString());
+		}
+	}
+}
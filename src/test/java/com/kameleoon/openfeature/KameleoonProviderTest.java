@@ -0,0 +1,134 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import com.kameleoon.KameleoonClient;
+import com.kameleoon.ReadyCallback;
+import com.kameleoon.types.Variable;
+import com.kameleoon.types.Variation;
+import dev.openfeature.sdk.ProviderEvaluation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KameleoonProviderTest {
+
+	private static final String SITE_CODE = "testSiteCode";
+
+	private final File filesDir = new File(System.getProperty("java.io.tmpdir"),
+			"kameleoon_provider_" + System.nanoTime());
+
+	@AfterEach
+	public void tearDown() {
+		File usageFile = UsageLedger.getFile(makeContext(), SITE_CODE);
+		usageFile.delete();
+		usageFile.getParentFile().delete();
+		filesDir.delete();
+	}
+
+	@Test
+	public void getBooleanEvaluation_BudgetWithBundledConfiguration_ResolvesBeforeClientIsReady() {
+		// Arrange
+		KameleoonProviderConfig config = KameleoonProviderConfig.defaultConfig();
+		KameleoonClient client = mock(KameleoonClient.class);
+		when(client.isReady()).thenReturn(false);
+		KameleoonProvider provider = new KameleoonProvider(SITE_CODE, client,
+				new KameleoonResolver(makeReadyFeatureClient(), config), config, makeContext());
+
+		// Act
+		ProviderEvaluation<Boolean> result = provider.getBooleanEvaluation("testFlag", false, null,
+				1, TimeUnit.SECONDS);
+
+		// Assert
+		assertEquals(true, result.getValue());
+		assertEquals("on", result.getVariant());
+		assertNull(result.getErrorCode());
+		provider.shutdown();
+	}
+
+	@Test
+	public void initialize_PausedWorker_PublishesReady() {
+		// Arrange
+		KameleoonProviderConfig config = KameleoonProviderConfig.defaultConfig();
+		KameleoonClient client = mock(KameleoonClient.class);
+		doAnswer(invocation -> {
+			ReadyCallback readyCallback = invocation.getArgument(0);
+			readyCallback.onResult(() -> true);
+			return null;
+		}).when(client).runWhenReady(any());
+		KameleoonProvider provider = new KameleoonProvider(SITE_CODE, client,
+				new KameleoonResolver(makeReadyFeatureClient(), config), config, makeContext());
+		provider.worker.pause();
+
+		// Act
+		provider.initialize(null);
+
+		// Assert
+		assertTrue(provider.getStartupReport().isReady());
+		provider.shutdown();
+	}
+
+	@Test
+	public void shutdown_PausedWorker_WritesUsageCounts() throws InterruptedException {
+		// Arrange
+		KameleoonProviderConfig config = new KameleoonProviderConfig.Builder()
+				.trackUsage(TimeUnit.HOURS.toMillis(1))
+				.build();
+		Context context = makeContext();
+		KameleoonProvider provider = new KameleoonProvider(SITE_CODE, mock(KameleoonClient.class),
+				new KameleoonResolver(makeReadyFeatureClient(), config), config, context);
+		provider.getBooleanEvaluation("testFlag", false, null);
+		provider.getBooleanEvaluation("testFlag", false, null);
+		provider.worker.pause();
+
+		// Act
+		provider.shutdown();
+
+		// Assert
+		File usageFile = UsageLedger.getFile(context, SITE_CODE);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!usageFile.exists() && System.nanoTime() - deadline < 0) {
+			Thread.sleep(10);
+		}
+		assertTrue(usageFile.exists());
+		UsageLedger ledger = new UsageLedger(usageFile, TimeUnit.HOURS.toNanos(1));
+		ledger.load();
+		List<FlagUsage> usage = ledger.getUsage();
+		assertEquals(1, usage.size());
+		assertEquals(2, usage.get(0).getEvaluationCount());
+		assertEquals(Long.valueOf(2), usage.get(0).getVariantCounts().get("on"));
+	}
+
+	private static FeatureClient makeReadyFeatureClient() {
+		Variation variation = new Variation("on", -1, -1,
+				Collections.singletonMap("k", new Variable("k", "BOOLEAN", true)));
+		return new FeatureClient() {
+			@Override
+			public Variation getVariation(String flagKey) {
+				return variation;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+	}
+
+	private Context makeContext() {
+		Context context = mock(Context.class);
+		when(context.getFilesDir()).thenReturn(filesDir);
+		return context;
+	}
+}
@@ -9,20 +9,32 @@ import com.kameleoon.types.Variable;
 import com.kameleoon.types.Variation;
 import dev.openfeature.sdk.*;
 import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class KameleoonResolverTest {
@@ -164,4 +176,286 @@ public class KameleoonResolverTest {
 		assertNull(result.getErrorMessage());
 		assertEquals(variation.getKey(), result.getVariant());
 	}
+
+	@Test
+	public void resolve_PrefetchedFlag_ResolvesVariationOnceUntilInvalidated() throws KameleoonException {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		setupClientMock(variation, null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		String flagKey = "testFlag";
+
+		// Act
+		resolver.prefetch(Collections.singletonList(FlagVariable.of(flagKey)));
+		ProviderEvaluation<Integer> cached = resolver.resolve(flagKey, 1, null);
+		resolver.resolve(flagKey, 1, null);
+		resolver.invalidate();
+		resolver.resolve(flagKey, 1, null);
+
+		// Assert
+		assertEquals(10, cached.getValue());
+		verify(clientMock, times(2)).getVariation(flagKey);
+	}
+
+	@Test
+	public void resolve_UnlistedFlag_ResolvesThroughClientEachTime() throws KameleoonException {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		setupClientMock(variation, null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("listedFlag")));
+
+		// Act
+		resolver.resolve("testFlag", 1, null);
+		resolver.resolve("testFlag", 1, null);
+		resolver.resolve("testFlag", 1, null);
+
+		// Assert
+		assertFalse(resolver.isResolved("testFlag", null));
+		verify(clientMock, times(3)).getVariation("testFlag");
+	}
+
+	@Test
+	public void resolve_NotReadyClient_DoesNotCache() throws KameleoonException {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		setupClientMock(variation, null);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		String flagKey = "testFlag";
+
+		// Act
+		resolver.prefetch(Collections.singletonList(FlagVariable.of(flagKey)));
+		resolver.resolve(flagKey, 1, null);
+		resolver.resolve(flagKey, 1, null);
+
+		// Assert
+		verify(clientMock, times(3)).getVariation(flagKey);
+	}
+
+	@Test
+	public void prefetch_ReadyClient_FollowingResolveUsesPrefetchedValue() throws KameleoonException {
+		// Arrange
+		Map<String, Variable> variables = new HashMap<>();
+		variables.put("k1", new Variable("k1", "STRING", "v1"));
+		variables.put("k2", new Variable("k2", "BOOLEAN", true));
+		setupClientMock(new Variation("on", -1, -1, variables), null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		List<FlagVariable> flagVariables = Collections.singletonList(FlagVariable.of("testFlag", "k2"));
+		EvaluationContext context = new ImmutableContext("",
+				Collections.singletonMap(DataType.VARIABLE_KEY.getValue(), new Value.String("k2")));
+
+		// Act
+		resolver.prefetch(flagVariables);
+		ProviderEvaluation<Boolean> result = resolver.resolve("testFlag", false, context);
+
+		// Assert
+		assertEquals(true, result.getValue());
+		assertEquals("on", result.getVariant());
+		verify(clientMock, times(1)).getVariation("testFlag");
+	}
+
+	@Test
+	public void resolveValue_ReturnsConvertedValue() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10.0)));
+		setupClientMock(variation, null);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+
+		// Act
+		ProviderEvaluation<Value> result = resolver.resolveValue("testFlag", new Value.String("default"), null);
+
+		// Assert
+		assertEquals(new Value.Double(10.0), result.getValue());
+		assertNull(result.getErrorCode());
+		assertEquals("on", result.getVariant());
+	}
+
+	@Test
+	public void getValue_ReturnsValueOnlyForMatchingType() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		setupClientMock(variation, null);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+
+		// Act & Assert
+		assertEquals(10, resolver.getValue("testFlag", null, Integer.class));
+		assertEquals(new Value.Integer(10), resolver.getValue("testFlag", "k", Value.class));
+		assertNull(resolver.getValue("testFlag", null, String.class));
+		assertNull(resolver.getValue("testFlag", "unknown", Integer.class));
+	}
+
+	private static JsonObject readJson(String json) {
+		try (JsonReader reader = Json.createReader(new StringReader(json))) {
+			return reader.readObject();
+		}
+	}
+
+	@Test
+	public void resolveDecoded_ReadyClient_DecodesOnce() {
+		// Arrange
+		JsonObject json = readJson("{\"title\": \"Sale\"}");
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "JSON", json)));
+		setupClientMock(variation, null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		AtomicInteger decodeCount = new AtomicInteger();
+		JsonDecoder<String> decoder = value -> {
+			decodeCount.incrementAndGet();
+			return ((JsonObject) value).getString("title");
+		};
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("testFlag")));
+
+		// Act
+		ProviderEvaluation<String> first = resolver.resolveDecoded("testFlag", "default", String.class, decoder, null);
+		ProviderEvaluation<String> second = resolver.resolveDecoded("testFlag", "default", String.class, decoder, null);
+
+		// Assert
+		assertEquals("Sale", first.getValue());
+		assertEquals("Sale", second.getValue());
+		assertNull(second.getErrorCode());
+		assertEquals(1, decodeCount.get());
+	}
+
+	@Test
+	public void resolveDecoded_DecoderFails_ReturnsParseError() {
+		// Arrange
+		JsonObject json = readJson("{\"title\": 1}");
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "JSON", json)));
+		setupClientMock(variation, null);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		JsonDecoder<String> decoder = value -> ((JsonObject) value).getString("title");
+
+		// Act
+		ProviderEvaluation<String> result = resolver.resolveDecoded("testFlag", "default", String.class, decoder, null);
+
+		// Assert
+		assertEquals("default", result.getValue());
+		assertEquals(ErrorCode.PARSE_ERROR, result.getErrorCode());
+		assertEquals("on", result.getVariant());
+	}
+
+	@Test
+	public void resolveDecoded_NotJsonValue_ReturnsTypeMismatch() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		setupClientMock(variation, null);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		JsonDecoder<String> decoder = value -> "decoded";
+
+		// Act
+		ProviderEvaluation<String> result = resolver.resolveDecoded("testFlag", "default", String.class, decoder, null);
+
+		// Assert
+		assertEquals("default", result.getValue());
+		assertEquals(ErrorCode.TYPE_MISMATCH, result.getErrorCode());
+	}
+
+	@Test
+	public void resolve_RepeatedMissOfCachedVariable_ReusesErrorEvaluation() {
+		// Arrange
+		setupClientMock(new Variation("off", -1, -1, Collections.emptyMap()), null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("testFlag")));
+
+		// Act
+		ProviderEvaluation<Integer> first = resolver.resolve("testFlag", 42, null);
+		ProviderEvaluation<Integer> second = resolver.resolve("testFlag", 42, null);
+		ProviderEvaluation<Integer> otherDefault = resolver.resolve("testFlag", 7, null);
+
+		// Assert
+		assertSame(first, second);
+		assertNotSame(first, otherDefault);
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, second.getErrorCode());
+		assertEquals("The variation 'off' has no variables", second.getErrorMessage());
+		assertEquals(7, otherDefault.getValue());
+	}
+
+	@Test
+	public void resolve_RepeatedMissOfUnconfiguredFlag_ResolvesOnceUntilInvalidated() throws KameleoonException {
+		// Arrange
+		setupClientMock(null, new FeatureNotFound("featureException"));
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+
+		// Act
+		ProviderEvaluation<Integer> first = resolver.resolve("testFlag", 42, null);
+		ProviderEvaluation<Integer> second = resolver.resolve("testFlag", 42, null);
+		resolver.invalidate();
+		resolver.resolve("testFlag", 42, null);
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, second.getErrorCode());
+		verify(clientMock, times(2)).getVariation("testFlag");
+	}
+
+	@Test
+	public void resolve_RepeatedTypeMismatch_ReturnsTypeMismatchEachTime() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "STRING", "s")));
+		setupClientMock(variation, null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("testFlag")));
+
+		// Act
+		ProviderEvaluation<Integer> first = resolver.resolve("testFlag", 42, null);
+		ProviderEvaluation<Integer> second = resolver.resolve("testFlag", 42, null);
+
+		// Assert
+		assertEquals(ErrorCode.TYPE_MISMATCH, first.getErrorCode());
+		assertEquals(ErrorCode.TYPE_MISMATCH, second.getErrorCode());
+		assertEquals(42, second.getValue());
+	}
+
+	@Test
+	public void resolve_CachedVariable_ReusesEvaluation() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10.5)));
+		setupClientMock(variation, null);
+		when(clientMock.isReady()).thenReturn(true);
+		KameleoonResolver resolver = new KameleoonResolver(clientMock);
+		resolver.prefetch(Collections.singletonList(FlagVariable.of("testFlag")));
+
+		// Act
+		ProviderEvaluation<Double> first = resolver.resolve("testFlag", 1.0, null);
+		ProviderEvaluation<Double> second = resolver.resolve("testFlag", 2.0, null);
+		ProviderEvaluation<Value> valueEvaluation = resolver.resolveValue("testFlag", new Value.String("default"), null);
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(10.5, second.getValue());
+		assertEquals("on", second.getVariant());
+		assertEquals(new Value.Double(10.5), valueEvaluation.getValue());
+		assertEquals("on", valueEvaluation.getVariant());
+	}
+
+	@Test
+	public void resolve_InMemoryFeatureClient_ResolvesWithoutKameleoonClient() {
+		// Arrange
+		Variation variation = new Variation("on", -1, -1, Collections.singletonMap("k", new Variable("k", "NUMBER", 10)));
+		FeatureClient featureClient = new FeatureClient() {
+			@Override
+			public Variation getVariation(String flagKey) {
+				return variation;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+		KameleoonResolver resolver = new KameleoonResolver(featureClient, KameleoonProviderConfig.defaultConfig());
+
+		// Act
+		ProviderEvaluation<Integer> result = resolver.resolve("testFlag", 0, null);
+
+		// Assert
+		assertEquals(10, result.getValue());
+		assertEquals("on", result.getVariant());
+	}
 }
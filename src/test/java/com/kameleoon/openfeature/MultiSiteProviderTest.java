@@ -0,0 +1,142 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderNotReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderReady;
+import dev.openfeature.sdk.events.OpenFeatureEvents.ProviderStale;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MultiSiteProviderTest {
+
+	private final KameleoonProvider appProvider = mock(KameleoonProvider.class);
+	private final KameleoonProvider checkoutProvider = mock(KameleoonProvider.class);
+	private final KameleoonProvider partnerProvider = mock(KameleoonProvider.class);
+
+	private MultiSiteProvider.Builder makeBuilder() {
+		return new MultiSiteProvider.Builder()
+				.site("app", appProvider)
+				.site("checkout", checkoutProvider)
+				.site("partner", partnerProvider, false)
+				.routePrefix("checkout.", "checkout")
+				.routeFlag("partnerBanner", "partner");
+	}
+
+	@Test
+	public void getBooleanEvaluation_RoutedFlag_DelegatesToSiteProvider() {
+		// Arrange
+		EvaluationContext context = new ImmutableContext("visitor", Collections.emptyMap());
+		ProviderEvaluation<Boolean> expected = new ProviderEvaluation<>(true, "on", "STATIC", null, null);
+		when(checkoutProvider.getBooleanEvaluation("checkout.button", false, context)).thenReturn(expected);
+		MultiSiteProvider provider = new MultiSiteProvider(makeBuilder(), Runnable::run);
+
+		// Act
+		ProviderEvaluation<Boolean> result = provider.getBooleanEvaluation("checkout.button", false, context);
+
+		// Assert
+		assertSame(expected, result);
+		assertEquals("partner", provider.getSiteCode("partnerBanner"));
+		verify(appProvider, never()).getBooleanEvaluation(any(), eq(false), any());
+	}
+
+	@Test
+	public void getStringEvaluation_NotRoutedFlagWithoutDefaultSite_ReturnsFlagNotFound() {
+		// Arrange
+		MultiSiteProvider provider = new MultiSiteProvider(makeBuilder(), Runnable::run);
+
+		// Act
+		ProviderEvaluation<String> result = provider.getStringEvaluation("home.banner", "default", null);
+
+		// Assert
+		assertEquals("default", result.getValue());
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, result.getErrorCode());
+	}
+
+	@Test
+	public void initialize_SeveralSites_InitializesThemInParallel() throws InterruptedException {
+		// Arrange
+		CountDownLatch started = new CountDownLatch(3);
+		CountDownLatch release = new CountDownLatch(1);
+		for (KameleoonProvider site : new KameleoonProvider[] { appProvider, checkoutProvider, partnerProvider }) {
+			doAnswer(invocation -> {
+				started.countDown();
+				release.await();
+				return null;
+			}).when(site).initialize(any(), any());
+		}
+		ExecutorService executor = Executors.newCachedThreadPool();
+		MultiSiteProvider provider = new MultiSiteProvider(makeBuilder(), executor);
+
+		// Act
+		provider.initialize(null);
+
+		// Assert
+		// Every site is initialized while the others are still blocked
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		release.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void getProviderStatus_RequiredSitesReady_ReturnsReadyWithoutOptionalSite() {
+		// Arrange
+		when(appProvider.getProviderStatus()).thenReturn(ProviderReady.INSTANCE);
+		when(checkoutProvider.getProviderStatus()).thenReturn(ProviderReady.INSTANCE);
+		when(partnerProvider.getProviderStatus()).thenReturn(ProviderNotReady.INSTANCE);
+		MultiSiteProvider provider = new MultiSiteProvider(makeBuilder(), Runnable::run);
+
+		// Act & Assert
+		assertSame(ProviderReady.INSTANCE, provider.getProviderStatus());
+
+		// Arrange
+		when(checkoutProvider.getProviderStatus()).thenReturn(ProviderNotReady.INSTANCE);
+
+		// Act & Assert
+		assertSame(ProviderNotReady.INSTANCE, provider.getProviderStatus());
+	}
+
+	@Test
+	public void shutdown_ShutsDownAllSites() {
+		// Arrange
+		MultiSiteProvider provider = new MultiSiteProvider(makeBuilder(), Runnable::run);
+
+		// Act
+		provider.shutdown();
+
+		// Assert
+		verify(appProvider).shutdown();
+		verify(checkoutProvider).shutdown();
+		verify(partnerProvider).shutdown();
+		assertSame(ProviderStale.INSTANCE, provider.getProviderStatus());
+	}
+
+	@Test
+	public void build_RouteToUnknownSite_Throws() {
+		// Arrange
+		MultiSiteProvider.Builder builder = makeBuilder().routePrefix("home.", "home");
+
+		// Act & Assert
+		assertThrows(IllegalArgumentException.class, builder::build);
+	}
+}
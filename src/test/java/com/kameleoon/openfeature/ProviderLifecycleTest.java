@@ -0,0 +1,149 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProviderLifecycleTest {
+
+	private final ProviderLifecycle<String> lifecycle = new ProviderLifecycle<>("client");
+
+	@Test
+	public void enter_Running_ReturnsGenerationAndCountsWork() {
+		// Act
+		ProviderLifecycle.Generation<String> generation = lifecycle.enter();
+
+		// Assert
+		assertEquals("client", generation.client);
+		assertEquals(1, generation.getInFlightCount());
+
+		// Act
+		generation.exit();
+
+		// Assert
+		assertEquals(0, generation.getInFlightCount());
+	}
+
+	@Test
+	public void markReady_NotReady_MovesToReadyOnce() {
+		// Act
+		boolean first = lifecycle.markReady();
+		boolean second = lifecycle.markReady();
+
+		// Assert
+		assertTrue(first);
+		assertFalse(second);
+		assertEquals(ProviderLifecycle.Phase.READY, lifecycle.getState().phase);
+	}
+
+	@Test
+	public void beginDrain_CalledTwice_OnlyFirstSucceeds() {
+		// Act
+		ProviderLifecycle.Generation<String> first = lifecycle.beginDrain();
+		ProviderLifecycle.Generation<String> second = lifecycle.beginDrain();
+
+		// Assert
+		assertEquals("client", first.client);
+		assertNull(second);
+		assertNull(lifecycle.enter());
+		assertEquals(0, first.getInFlightCount());
+		assertFalse(lifecycle.markReady());
+	}
+
+	@Test
+	public void awaitDrained_WorkInFlight_WaitsForExit() throws InterruptedException {
+		// Arrange
+		CountDownLatch entered = new CountDownLatch(1);
+		Thread worker = new Thread(() -> {
+			ProviderLifecycle.Generation<String> generation = lifecycle.enter();
+			entered.countDown();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			}
+			generation.exit();
+		});
+		worker.start();
+		entered.await();
+		ProviderLifecycle.Generation<String> generation = lifecycle.beginDrain();
+
+		// Act
+		boolean drained = generation.awaitDrained(TimeUnit.SECONDS.toNanos(5));
+
+		// Assert
+		assertTrue(drained);
+		assertEquals(0, generation.getInFlightCount());
+		worker.join();
+	}
+
+	@Test
+	public void awaitDrained_WorkNotFinished_ReturnsFalseAfterTimeout() {
+		// Arrange
+		lifecycle.enter();
+		ProviderLifecycle.Generation<String> generation = lifecycle.beginDrain();
+
+		// Act
+		boolean drained = generation.awaitDrained(TimeUnit.MILLISECONDS.toNanos(10));
+
+		// Assert
+		assertFalse(drained);
+	}
+
+	@Test
+	public void swap_WorkInFlight_NewWorkUsesNewClientWhileOldDrains() {
+		// Arrange
+		lifecycle.markReady();
+		ProviderLifecycle.Generation<String> old = lifecycle.enter();
+
+		// Act
+		ProviderLifecycle.Generation<String> previous = lifecycle.swap("next");
+		ProviderLifecycle.Generation<String> current = lifecycle.enter();
+
+		// Assert
+		assertSame(old, previous);
+		assertEquals("next", current.client);
+		assertEquals(ProviderLifecycle.Phase.READY, lifecycle.getState().phase);
+		assertFalse(previous.awaitDrained(0));
+
+		// Act
+		old.exit();
+
+		// Assert
+		assertTrue(previous.awaitDrained(0));
+		assertEquals(1, current.getInFlightCount());
+	}
+
+	@Test
+	public void swap_Draining_ReturnsNull() {
+		// Arrange
+		lifecycle.beginDrain();
+
+		// Act
+		ProviderLifecycle.Generation<String> previous = lifecycle.swap("next");
+
+		// Assert
+		assertNull(previous);
+		assertEquals("client", lifecycle.getClient());
+	}
+
+	@Test
+	public void stop_Draining_DropsClient() {
+		// Arrange
+		lifecycle.beginDrain();
+
+		// Act
+		lifecycle.stop();
+
+		// Assert
+		assertEquals(ProviderLifecycle.Phase.STOPPED, lifecycle.getState().phase);
+		assertNull(lifecycle.getClient());
+	}
+}
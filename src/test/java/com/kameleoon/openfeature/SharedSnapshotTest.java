@@ -0,0 +1,190 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SharedSnapshotTest {
+
+	private final File file = new File(System.getProperty("java.io.tmpdir"),
+			"kameleoon_shared_snapshot_" + System.nanoTime() + ".snapshot");
+	private final SharedSnapshotWriter writer = new SharedSnapshotWriter(file);
+	private final SharedSnapshotReader reader = new SharedSnapshotReader(file);
+	private final SnapshotResolver snapshotResolver = new SnapshotResolver(reader);
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		writer.close();
+		reader.close();
+		file.delete();
+	}
+
+	@Test
+	public void refresh_NotPublished_SnapshotIsNotAvailable() {
+		// Act
+		boolean available = snapshotResolver.refresh();
+
+		// Assert
+		assertFalse(available);
+		assertEquals(ErrorCode.FLAG_NOT_FOUND,
+				snapshotResolver.resolve("flag", true, null).getErrorCode());
+	}
+
+	@Test
+	public void resolve_Published_ReturnsOwnerValues() throws IOException {
+		// Arrange
+		JsonObject json;
+		try (JsonReader jsonReader = Json.createReader(new StringReader("{\"k\":1}"))) {
+			json = jsonReader.readObject();
+		}
+		FakeResolver owner = new FakeResolver();
+		owner.cache.put("bool", null, ResolvedVariable.ofValue("on", true), 0);
+		owner.cache.put("number", "var", ResolvedVariable.ofValue("v1", 3.5), 0);
+		owner.cache.put("text", null, ResolvedVariable.ofValue("v2", "caf\u00e9"), 0);
+		owner.cache.put("json", null, ResolvedVariable.ofValue("v3", json), 0);
+		owner.cache.put("missing", null, ResolvedVariable.ofError(null, ErrorCode.FLAG_NOT_FOUND, "not found"), 0);
+
+		// Act
+		writer.write(SharedSnapshotCodec.encode(owner));
+
+		// Assert
+		assertTrue(snapshotResolver.refresh());
+		ProviderEvaluation<Boolean> bool = snapshotResolver.resolve("bool", false, null);
+		assertEquals(true, bool.getValue());
+		assertEquals("on", bool.getVariant());
+		assertEquals(3.5, snapshotResolver.getValue("number", "var", Double.class));
+		assertEquals("caf\u00e9", snapshotResolver.getValue("text", null, String.class));
+		assertEquals(json, snapshotResolver.getValue("json", null, JsonObject.class));
+		ProviderEvaluation<Boolean> missing = snapshotResolver.resolve("missing", false, null);
+		assertEquals(ErrorCode.FLAG_NOT_FOUND, missing.getErrorCode());
+		assertEquals("not found", missing.getErrorMessage());
+	}
+
+	@Test
+	public void resolve_Republished_ReturnsLatestValues() throws IOException {
+		// Arrange
+		FakeResolver owner = new FakeResolver();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("on", 1), 0);
+		writer.write(SharedSnapshotCodec.encode(owner));
+		snapshotResolver.refresh();
+		owner.cache.invalidate();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("off", 2), owner.cache.getVersion());
+
+		// Act
+		writer.write(SharedSnapshotCodec.encode(owner));
+
+		// Assert
+		assertEquals(Integer.valueOf(2), snapshotResolver.getValue("flag", null, Integer.class));
+	}
+
+	@Test
+	public void resolve_ReaderClosed_KeepsLastSnapshotWithoutReopening() throws IOException {
+		// Arrange
+		FakeResolver owner = new FakeResolver();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("on", 1), 0);
+		writer.write(SharedSnapshotCodec.encode(owner));
+		snapshotResolver.refresh();
+		reader.close();
+		owner.cache.invalidate();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("off", 2), owner.cache.getVersion());
+
+		// Act
+		writer.write(SharedSnapshotCodec.encode(owner));
+
+		// Assert
+		assertFalse(reader.hasChanged());
+		assertEquals(Integer.valueOf(1), snapshotResolver.getValue("flag", null, Integer.class));
+	}
+
+	@Test
+	public void hasChanged_NotPublished_ChecksFileOncePerInterval() throws IOException {
+		// Arrange
+		SharedSnapshotReader throttledReader = new SharedSnapshotReader(file, TimeUnit.HOURS.toNanos(1));
+		assertFalse(throttledReader.hasChanged());
+		FakeResolver owner = new FakeResolver();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("on", 1), 0);
+
+		// Act
+		writer.write(SharedSnapshotCodec.encode(owner));
+
+		// Assert
+		assertFalse(throttledReader.hasChanged());
+		assertTrue(reader.hasChanged());
+		throttledReader.close();
+	}
+
+	@Test
+	public void encode_UnsupportedValue_SkipsEntry() throws IOException {
+		// Arrange
+		FakeResolver owner = new FakeResolver();
+		owner.cache.put("flag", null, ResolvedVariable.ofValue("on", new Object()), 0);
+
+		// Act
+		writer.write(SharedSnapshotCodec.encode(owner));
+
+		// Assert
+		assertTrue(snapshotResolver.refresh());
+		assertNull(snapshotResolver.getValue("flag", null, Object.class));
+	}
+
+	@Test
+	public void build_ShareSnapshotWithoutPrefetch_Throws() {
+		// Arrange
+		KameleoonProviderConfig.Builder builder = new KameleoonProviderConfig.Builder().shareSnapshot(true);
+
+		// Act & Assert
+		assertThrows(IllegalArgumentException.class, builder::build);
+	}
+
+	private static final class FakeResolver extends VariableResolver {
+
+		private final VariableCache cache = new VariableCache();
+
+		@Override
+		ResolvedVariable getResolvedVariable(String flagKey, String variableKey) {
+			return cache.get(flagKey, variableKey);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void invalidate() {
+			cache.invalidate();
+		}
+
+		@Override
+		public void invalidate(VariableCache.FlagFilter affectedFlags) {
+			cache.invalidate(affectedFlags);
+		}
+
+		@Override
+		public void forEachResolved(VariableCache.Visitor visitor) {
+			cache.forEach(visitor);
+		}
+
+		@Override
+		public Map<String, CircuitState> getCircuitStates() {
+			return Collections.emptyMap();
+		}
+	}
+}
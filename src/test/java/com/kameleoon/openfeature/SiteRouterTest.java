@@ -0,0 +1,42 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SiteRouterTest {
+
+	@Test
+	public void route_FlagAndPrefixes_PrefersFlagThenLongestPrefix() {
+		// Arrange
+		Map<String, String> prefixes = new HashMap<>();
+		prefixes.put("checkout", "checkout");
+		prefixes.put("checkout.partner", "partner");
+		SiteRouter<String> router = new SiteRouter<>(Collections.singletonMap("checkout.partner.legacy", "app"),
+				prefixes, "app");
+
+		// Act & Assert
+		assertEquals("app", router.route("checkout.partner.legacy"));
+		assertEquals("partner", router.route("checkout.partner.banner"));
+		assertEquals("checkout", router.route("checkout.button"));
+		assertEquals("app", router.route("home.banner"));
+	}
+
+	@Test
+	public void route_NoMatchWithoutDefault_ReturnsNull() {
+		// Arrange
+		SiteRouter<String> router = new SiteRouter<>(Collections.<String, String>emptyMap(),
+				Collections.singletonMap("checkout", "checkout"), null);
+
+		// Act
+		String site = router.route("home.banner");
+
+		// Assert
+		assertNull(site);
+	}
+}
@@ -0,0 +1,38 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupReportTest {
+
+	@Test
+	public void isWithinBudget_ReadyInTime_ReturnsTrue() {
+		// Arrange
+		long[] durations = {1L, 2L, 3L, 4L, 5L};
+		StartupReport report = new StartupReport(durations, TimeUnit.MILLISECONDS.toNanos(150));
+
+		// Assert
+		assertTrue(report.isReady());
+		assertTrue(report.isWithinBudget(200));
+		assertFalse(report.isWithinBudget(100));
+		assertEquals(3L, report.getDurationNanos(StartupPhase.CONTEXT_CONVERSION));
+	}
+
+	@Test
+	public void isWithinBudget_NotReady_ReturnsFalse() {
+		// Arrange
+		long[] durations = {1L, StartupReport.NOT_FINISHED, StartupReport.NOT_FINISHED,
+				StartupReport.NOT_FINISHED, StartupReport.NOT_FINISHED};
+		StartupReport report = new StartupReport(durations, StartupReport.NOT_FINISHED);
+
+		// Assert
+		assertFalse(report.isReady());
+		assertFalse(report.isWithinBudget(Long.MAX_VALUE / 2_000_000));
+		assertEquals(StartupReport.NOT_FINISHED, report.getDurationNanos(StartupPhase.READY_WAIT));
+	}
+}
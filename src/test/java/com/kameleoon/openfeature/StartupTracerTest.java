@@ -0,0 +1,115 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupTracerTest {
+
+	private static final long PHASE_MILLIS = 20L;
+
+	private final StartupTracer tracer = new StartupTracer();
+
+	@Test
+	public void makeReport_NothingMeasured_PhasesAreNotFinished() {
+		// Act
+		StartupReport report = tracer.makeReport();
+
+		// Assert
+		for (StartupPhase phase : StartupPhase.values()) {
+			assertEquals(StartupReport.NOT_FINISHED, report.getDurationNanos(phase));
+		}
+		assertFalse(report.isReady());
+	}
+
+	@Test
+	public void end_FinishedPhase_ReportsDuration() throws InterruptedException {
+		// Arrange
+		tracer.begin(StartupPhase.CONTEXT_CONVERSION);
+		Thread.sleep(PHASE_MILLIS);
+
+		// Act
+		tracer.end(StartupPhase.CONTEXT_CONVERSION);
+
+		// Assert
+		StartupReport report = tracer.makeReport();
+		assertTrue(report.getDurationNanos(StartupPhase.CONTEXT_CONVERSION)
+				>= TimeUnit.MILLISECONDS.toNanos(PHASE_MILLIS));
+		assertEquals(StartupReport.NOT_FINISHED, report.getDurationNanos(StartupPhase.ADD_DATA));
+	}
+
+	@Test
+	public void end_PhaseRunTwice_ReportsFirstRun() throws InterruptedException {
+		// Arrange
+		tracer.begin(StartupPhase.ADD_DATA);
+		Thread.sleep(PHASE_MILLIS);
+		tracer.end(StartupPhase.ADD_DATA);
+		long firstRun = tracer.makeReport().getDurationNanos(StartupPhase.ADD_DATA);
+
+		// Act
+		tracer.begin(StartupPhase.ADD_DATA);
+		Thread.sleep(PHASE_MILLIS * 2);
+		tracer.end(StartupPhase.ADD_DATA);
+
+		// Assert
+		assertEquals(firstRun, tracer.makeReport().getDurationNanos(StartupPhase.ADD_DATA));
+	}
+
+	@Test
+	public void endAsync_PhaseFinishedOnAnotherThread_ReportsDuration() throws InterruptedException {
+		// Arrange
+		tracer.beginAsync(StartupPhase.READY_WAIT);
+		Thread thread = new Thread(() -> {
+			try {
+				Thread.sleep(PHASE_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			tracer.endAsync(StartupPhase.READY_WAIT);
+		});
+
+		// Act
+		thread.start();
+		thread.join();
+
+		// Assert
+		assertTrue(tracer.makeReport().getDurationNanos(StartupPhase.READY_WAIT)
+				>= TimeUnit.MILLISECONDS.toNanos(PHASE_MILLIS));
+	}
+
+	@Test
+	public void beginAsync_OverlappingRuns_MeasuresFromFirstStart() throws InterruptedException {
+		// Arrange
+		tracer.beginAsync(StartupPhase.READY_WAIT);
+		Thread.sleep(PHASE_MILLIS);
+		tracer.beginAsync(StartupPhase.READY_WAIT);
+
+		// Act
+		tracer.endAsync(StartupPhase.READY_WAIT);
+		tracer.endAsync(StartupPhase.READY_WAIT);
+
+		// Assert
+		assertTrue(tracer.makeReport().getDurationNanos(StartupPhase.READY_WAIT)
+				>= TimeUnit.MILLISECONDS.toNanos(PHASE_MILLIS));
+	}
+
+	@Test
+	public void markReady_CalledTwice_KeepsFirstTime() throws InterruptedException {
+		// Arrange
+		tracer.markReady();
+		long timeToReady = tracer.makeReport().getTimeToReadyNanos();
+		Thread.sleep(PHASE_MILLIS);
+
+		// Act
+		tracer.markReady();
+
+		// Assert
+		StartupReport report = tracer.makeReport();
+		assertTrue(report.isReady());
+		assertEquals(timeToReady, report.getTimeToReadyNanos());
+	}
+}
@@ -0,0 +1,229 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FeatureProvider;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import com.kameleoon.openfeature.dto.types.DataType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StressHarness runs threads of mixed flag evaluations, context changes and a shutdown against a provider and
+ * reports the throughput, the latency percentiles and the operations which failed or returned unexpected results.
+ * Evaluations are expected to return the configured value, or the default value with
+ * {@link ErrorCode#PROVIDER_NOT_READY} once the provider is shut down.
+ */
+final class StressHarness {
+
+	static final String FLAG_KEY = "stressFlag";
+	static final String VARIANT = "on";
+
+	private static final int LATENCY_SAMPLES_PER_THREAD = 1 << 15;
+	private static final int MAX_REPORTED_FAILURES = 10;
+
+	interface ProviderFactory {
+		FeatureProvider create();
+	}
+
+	private final int threads;
+	private final long durationMillis;
+	private final int contextSetPercent;
+	private final boolean shutdown;
+
+	StressHarness(int threads, long durationMillis, int contextSetPercent, boolean shutdown) {
+		this.threads = threads;
+		this.durationMillis = durationMillis;
+		this.contextSetPercent = contextSetPercent;
+		this.shutdown = shutdown;
+	}
+
+	Report run(ProviderFactory factory) throws InterruptedException {
+		FeatureProvider provider = factory.create();
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong operations = new AtomicLong();
+		List<String> failures = Collections.synchronizedList(new ArrayList<>());
+		AtomicLong failureCount = new AtomicLong();
+		long[][] latencies = new long[threads][];
+		long[] sampleCounts = new long[threads];
+
+		for (int t = 0; t < threads; t++) {
+			int index = t;
+			Thread thread = new Thread(() -> {
+				long[] samples = new long[LATENCY_SAMPLES_PER_THREAD];
+				long count = 0;
+				boolean shutdownPending = shutdown && index == 0;
+				long shutdownAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis / 2);
+				try {
+					start.await();
+					while (running.get()) {
+						long begin = System.nanoTime();
+						String failure;
+						if (shutdownPending && begin >= shutdownAt) {
+							shutdownPending = false;
+							failure = call(provider::shutdown);
+						} else {
+							failure = runOperation(provider);
+						}
+						samples[(int) (count++ & (LATENCY_SAMPLES_PER_THREAD - 1))] = System.nanoTime() - begin;
+						if (failure != null) {
+							failureCount.incrementAndGet();
+							if (failures.size() < MAX_REPORTED_FAILURES) {
+								failures.add(failure);
+							}
+						}
+					}
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				} finally {
+					operations.addAndGet(count);
+					latencies[index] = samples;
+					sampleCounts[index] = count;
+					done.countDown();
+				}
+			}, "stress-" + t);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		Thread.sleep(durationMillis);
+		running.set(false);
+		done.await();
+		long elapsed = System.nanoTime() - begin;
+		return new Report(threads, operations.get(), elapsed, merge(latencies, sampleCounts), failureCount.get(),
+				new ArrayList<>(failures));
+	}
+
+	/**
+	 * Runs a random operation, returns the description of a failure or an unexpected result.
+	 */
+	private String runOperation(FeatureProvider provider) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextInt(100) < contextSetPercent) {
+			EvaluationContext context = new ImmutableContext("visitor" + random.nextInt(8),
+					Collections.singletonMap(DataType.VARIABLE_KEY.getValue(), new Value.String("number")));
+			return call(() -> provider.onContextSet(null, context));
+		}
+		try {
+			switch (random.nextInt(5)) {
+				case 0:
+					return check(provider.getBooleanEvaluation(FLAG_KEY, false, context("boolean")), true, false);
+				case 1:
+					return check(provider.getIntegerEvaluation(FLAG_KEY, 0, context("integer")), 10, 0);
+				case 2:
+					return check(provider.getDoubleEvaluation(FLAG_KEY, 0.0, context("double")), 10.5, 0.0);
+				case 3:
+					return check(provider.getStringEvaluation(FLAG_KEY, "", context("string")), "value", "");
+				default:
+					return provider.getProviderStatus() == null ? "getProviderStatus returned null" : null;
+			}
+		} catch (RuntimeException exception) {
+			return describe(exception);
+		}
+	}
+
+	private static EvaluationContext context(String variableKey) {
+		return new ImmutableContext("", Collections.singletonMap(DataType.VARIABLE_KEY.getValue(),
+				new Value.String(variableKey)));
+	}
+
+	private static <T> String check(ProviderEvaluation<T> evaluation, T expected, T defaultValue) {
+		boolean resolved = evaluation.getErrorCode() == null && expected.equals(evaluation.getValue())
+				&& VARIANT.equals(evaluation.getVariant());
+		boolean shutDown = evaluation.getErrorCode() == ErrorCode.PROVIDER_NOT_READY
+				&& defaultValue.equals(evaluation.getValue());
+		if (!resolved && !shutDown) {
+			return "Unexpected evaluation: value=" + evaluation.getValue() + ", variant=" + evaluation.getVariant()
+					+ ", error=" + evaluation.getErrorCode() + " " + evaluation.getErrorMessage();
+		}
+		return null;
+	}
+
+	private static String call(Runnable operation) {
+		try {
+			operation.run();
+			return null;
+		} catch (RuntimeException exception) {
+			return describe(exception);
+		}
+	}
+
+	private static String describe(RuntimeException exception) {
+		StackTraceElement[] trace = exception.getStackTrace();
+		return exception + (trace.length > 0 ? " at " + trace[0] : "");
+	}
+
+	private static long[] merge(long[][] latencies, long[] sampleCounts) {
+		int size = 0;
+		for (int i = 0; i < latencies.length; i++) {
+			size += (int) Math.min(sampleCounts[i], LATENCY_SAMPLES_PER_THREAD);
+		}
+		long[] merged = new long[size];
+		int offset = 0;
+		for (int i = 0; i < latencies.length; i++) {
+			int length = (int) Math.min(sampleCounts[i], LATENCY_SAMPLES_PER_THREAD);
+			System.arraycopy(latencies[i], 0, merged, offset, length);
+			offset += length;
+		}
+		Arrays.sort(merged);
+		return merged;
+	}
+
+	static final class Report {
+
+		final int threads;
+		final long operations;
+		final long elapsedNanos;
+		final long failureCount;
+		final List<String> failures;
+		private final long[] sortedLatencies;
+
+		Report(int threads, long operations, long elapsedNanos, long[] sortedLatencies, long failureCount,
+				List<String> failures) {
+			this.threads = threads;
+			this.operations = operations;
+			this.elapsedNanos = elapsedNanos;
+			this.sortedLatencies = sortedLatencies;
+			this.failureCount = failureCount;
+			this.failures = failures;
+		}
+
+		double getOpsPerSecond() {
+			return operations * 1e9 / elapsedNanos;
+		}
+
+		/**
+		 * Returns the latency percentile in nanoseconds of the sampled operations.
+		 */
+		long getLatencyPercentile(double percentile) {
+			if (sortedLatencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+			return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))];
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+					"threads=%d ops/s=%.0f p50=%dns p99=%dns p99.9=%dns max=%dns failures=%d",
+					threads, getOpsPerSecond(), getLatencyPercentile(50), getLatencyPercentile(99),
+					getLatencyPercentile(99.9), getLatencyPercentile(100), failureCount);
+		}
+	}
+}
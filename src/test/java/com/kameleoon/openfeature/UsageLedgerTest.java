@@ -0,0 +1,145 @@
+package com.kameleoon.openfeature;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UsageLedgerTest {
+
+	private final File file = new File(System.getProperty("java.io.tmpdir"),
+			"kameleoon_usage_" + System.nanoTime() + ".usage");
+
+	@AfterEach
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void getUsage_Incremented_ReturnsCountsByVariantMostUsedFirst() {
+		// Arrange
+		UsageLedger ledger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+
+		// Act
+		ledger.increment("rare", "on");
+		ledger.increment("hot", "on");
+		ledger.increment("hot", "off");
+		ledger.increment("hot", "on");
+		ledger.increment("hot", null);
+		List<FlagUsage> usage = ledger.getUsage();
+
+		// Assert
+		assertEquals(2, usage.size());
+		FlagUsage hot = usage.get(0);
+		assertEquals("hot", hot.getFlagKey());
+		assertEquals(4, hot.getEvaluationCount());
+		assertEquals(Long.valueOf(2), hot.getVariantCounts().get("on"));
+		assertEquals(Long.valueOf(1), hot.getVariantCounts().get("off"));
+		assertEquals(Long.valueOf(1), hot.getVariantCounts().get(null));
+		assertEquals(1, usage.get(1).getEvaluationCount());
+	}
+
+	@Test
+	public void load_Flushed_AddsCountsOfPreviousRun() throws IOException {
+		// Arrange
+		UsageLedger previousRun = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+		previousRun.increment("flag", "on");
+		previousRun.increment("flag", null);
+		previousRun.flush();
+		UsageLedger ledger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+
+		// Act
+		ledger.load();
+		ledger.increment("flag", "on");
+
+		// Assert
+		FlagUsage flag = ledger.getUsage().get(0);
+		assertEquals(3, flag.getEvaluationCount());
+		assertEquals(Long.valueOf(2), flag.getVariantCounts().get("on"));
+		assertEquals(Long.valueOf(1), flag.getVariantCounts().get(null));
+	}
+
+	@Test
+	public void flush_NotLoaded_KeepsCountsOfPreviousRun() throws IOException {
+		// Arrange
+		UsageLedger previousRun = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+		previousRun.increment("flag", "on");
+		previousRun.flush();
+		UsageLedger ledger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+		ledger.increment("flag", "on");
+
+		// Act
+		ledger.flush();
+
+		// Assert
+		UsageLedger nextRun = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+		nextRun.load();
+		assertEquals(Long.valueOf(2), nextRun.getUsage().get(0).getVariantCounts().get("on"));
+	}
+
+	@Test
+	public void load_NoFile_StartsEmpty() {
+		// Arrange
+		UsageLedger ledger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+
+		// Act
+		ledger.load();
+
+		// Assert
+		assertTrue(ledger.getUsage().isEmpty());
+	}
+
+	@Test
+	public void increment_IntervalElapsed_RequestsFlushOnce() {
+		// Arrange
+		UsageLedger ledger = new UsageLedger(file, 0);
+
+		// Act
+		boolean first = ledger.increment("flag", "on");
+
+		// Assert
+		assertTrue(first);
+
+		// Arrange
+		UsageLedger slowLedger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+
+		// Act
+		boolean notDue = slowLedger.increment("flag", "on");
+
+		// Assert
+		assertFalse(notDue);
+	}
+
+	@Test
+	public void increment_ConcurrentThreads_CountsAllEvaluations() throws InterruptedException {
+		// Arrange
+		UsageLedger ledger = new UsageLedger(file, TimeUnit.HOURS.toNanos(1));
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					ledger.increment("flag", "on");
+				}
+			}));
+		}
+
+		// Act
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Assert
+		assertEquals(80_000, ledger.getUsage().get(0).getEvaluationCount());
+	}
+}
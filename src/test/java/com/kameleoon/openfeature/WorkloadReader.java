@@ -0,0 +1,171 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Value;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorkloadReader reads the workload log written by {@link WorkloadRecorder}. A log truncated in the middle of a
+ * record, e.g. when the application was killed during a flush, is read up to the last complete record.
+ */
+final class WorkloadReader {
+
+	private final DataInputStream input;
+	private final List<String> strings = new ArrayList<>();
+	private EvaluationContext lastContext;
+	private long offsetNanos;
+
+	private WorkloadReader(InputStream input) {
+		this.input = new DataInputStream(new BufferedInputStream(input));
+	}
+
+	static List<WorkloadRecord> read(File file) throws IOException {
+		try (InputStream input = new FileInputStream(file)) {
+			return read(input);
+		}
+	}
+
+	static List<WorkloadRecord> read(InputStream input) throws IOException {
+		return new WorkloadReader(input).readRecords();
+	}
+
+	private List<WorkloadRecord> readRecords() throws IOException {
+		if (input.readInt() != WorkloadRecorder.MAGIC || input.readInt() != WorkloadRecorder.FORMAT_VERSION) {
+			throw new IOException("Not a workload log");
+		}
+		WorkloadRecorder.Kind[] kinds = WorkloadRecorder.Kind.values();
+		List<WorkloadRecord> records = new ArrayList<>();
+		try {
+			int kindIndex;
+			while ((kindIndex = input.read()) >= 0) {
+				if (kindIndex >= kinds.length) {
+					throw new IOException("Unknown record kind " + kindIndex);
+				}
+				records.add(readRecord(kinds[kindIndex]));
+			}
+		} catch (EOFException ignored) {
+			// The last record is incomplete
+		}
+		return records;
+	}
+
+	private WorkloadRecord readRecord(WorkloadRecorder.Kind kind) throws IOException {
+		offsetNanos += readSignedVarLong();
+		EvaluationContext context = readContext();
+		if (kind != WorkloadRecorder.Kind.EVALUATION) {
+			return WorkloadRecord.ofContext(kind, offsetNanos, context);
+		}
+		WorkloadRecorder.ValueType[] valueTypes = WorkloadRecorder.ValueType.values();
+		int valueTypeIndex = input.readUnsignedByte();
+		if (valueTypeIndex >= valueTypes.length) {
+			throw new IOException("Unknown evaluation type " + valueTypeIndex);
+		}
+		String flagKey = readString();
+		long durationNanos = UsageLedger.readVarLong(input);
+		String variant = readString();
+		String errorCode = readString();
+		Value value = readValue();
+		return WorkloadRecord.ofEvaluation(offsetNanos, context, valueTypes[valueTypeIndex], flagKey, durationNanos,
+				variant, errorCode, value);
+	}
+
+	private EvaluationContext readContext() throws IOException {
+		int tag = input.readUnsignedByte();
+		switch (tag) {
+			case WorkloadRecorder.NO_CONTEXT:
+				return null;
+			case WorkloadRecorder.SAME_CONTEXT:
+				return lastContext;
+			case WorkloadRecorder.NEW_CONTEXT:
+				String targetingKey = readString();
+				int size = readSize();
+				Map<String, Value> entries = new HashMap<>();
+				for (int i = 0; i < size; i++) {
+					entries.put(readString(), readValue());
+				}
+				lastContext = new ImmutableContext(targetingKey != null ? targetingKey : "", entries);
+				return lastContext;
+			default:
+				throw new IOException("Unknown context tag " + tag);
+		}
+	}
+
+	private Value readValue() throws IOException {
+		int tag = input.readUnsignedByte();
+		switch (tag) {
+			case WorkloadRecorder.NULL_VALUE:
+				return null;
+			case WorkloadRecorder.FALSE_VALUE:
+				return new Value.Boolean(false);
+			case WorkloadRecorder.TRUE_VALUE:
+				return new Value.Boolean(true);
+			case WorkloadRecorder.INTEGER_VALUE:
+				return new Value.Integer((int) readSignedVarLong());
+			case WorkloadRecorder.DOUBLE_VALUE:
+				return new Value.Double(input.readDouble());
+			case WorkloadRecorder.STRING_VALUE:
+				return new Value.String(readString());
+			case WorkloadRecorder.LIST_VALUE:
+				int length = readSize();
+				List<Value> values = new ArrayList<>(length);
+				for (int i = 0; i < length; i++) {
+					values.add(readValue());
+				}
+				return new Value.List(values);
+			case WorkloadRecorder.STRUCTURE_VALUE:
+				int size = readSize();
+				Map<String, Value> structure = new HashMap<>();
+				for (int i = 0; i < size; i++) {
+					structure.put(readString(), readValue());
+				}
+				return new Value.Structure(structure);
+			case WorkloadRecorder.INSTANT_VALUE:
+				return new Value.Instant(new Date(input.readLong()));
+			default:
+				throw new IOException("Unknown value tag " + tag);
+		}
+	}
+
+	private String readString() throws IOException {
+		long reference = UsageLedger.readVarLong(input);
+		if (reference == 0L) {
+			return null;
+		}
+		if (reference <= strings.size()) {
+			return strings.get((int) (reference - 1));
+		}
+		if (reference != strings.size() + 1L) {
+			throw new IOException("Unknown string reference " + reference);
+		}
+		byte[] bytes = new byte[readSize()];
+		input.readFully(bytes);
+		String value = new String(bytes, WorkloadRecorder.UTF_8);
+		strings.add(value);
+		return value;
+	}
+
+	private int readSize() throws IOException {
+		long size = UsageLedger.readVarLong(input);
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Invalid size " + size);
+		}
+		return (int) size;
+	}
+
+	private long readSignedVarLong() throws IOException {
+		long value = UsageLedger.readVarLong(input);
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
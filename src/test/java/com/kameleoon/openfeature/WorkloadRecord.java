@@ -0,0 +1,51 @@
+package com.kameleoon.openfeature;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.Value;
+
+/**
+ * WorkloadRecord is a provider call read from a workload log written by {@link WorkloadRecorder}.
+ */
+final class WorkloadRecord {
+
+	final WorkloadRecorder.Kind kind;
+	/**
+	 * Time of the call since the start of the recording.
+	 */
+	final long offsetNanos;
+	final EvaluationContext context;
+	final WorkloadRecorder.ValueType valueType;
+	final String flagKey;
+	final long durationNanos;
+	final String variant;
+	final String errorCode;
+	/**
+	 * Value returned by the evaluation, converted to {@link Value}.
+	 */
+	final Value value;
+
+	private WorkloadRecord(WorkloadRecorder.Kind kind, long offsetNanos, EvaluationContext context,
+			WorkloadRecorder.ValueType valueType, String flagKey, long durationNanos, String variant, String errorCode,
+			Value value) {
+		this.kind = kind;
+		this.offsetNanos = offsetNanos;
+		this.context = context;
+		this.valueType = valueType;
+		this.flagKey = flagKey;
+		this.durationNanos = durationNanos;
+		this.variant = variant;
+		this.errorCode = errorCode;
+		this.value = value;
+	}
+
+	static WorkloadRecord ofContext(WorkloadRecorder.Kind kind, long offsetNanos, EvaluationContext context) {
+		return new WorkloadRecord(kind, offsetNanos, context, null, null, 0L, null, null, null);
+	}
+
+	static WorkloadRecord ofEvaluation(long offsetNanos, EvaluationContext context,
+			WorkloadRecorder.ValueType valueType, String flagKey, long durationNanos, String variant, String errorCode,
+			Value value) {
+		return new WorkloadRecord(WorkloadRecorder.Kind.EVALUATION, offsetNanos, context, valueType, flagKey,
+				durationNanos, variant, errorCode, value);
+	}
+}
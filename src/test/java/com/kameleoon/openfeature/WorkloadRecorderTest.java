@@ -0,0 +1,152 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.openfeature.dto.types.DataType;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadRecorderTest {
+
+	private final File file = new File(System.getProperty("java.io.tmpdir"),
+			"kameleoon_workload_" + System.nanoTime() + ".log");
+
+	@AfterEach
+	public void tearDown() {
+		file.delete();
+	}
+
+	private static EvaluationContext makeContext() {
+		Map<String, Value> entries = new HashMap<>();
+		entries.put(DataType.VARIABLE_KEY.getValue(), new Value.String("title"));
+		entries.put(DataType.CUSTOM_DATA.getValue(), DataType.makeCustomData(7, "gold", "silver"));
+		return new ImmutableContext("visitor", entries);
+	}
+
+	@Test
+	public void read_RecordedCalls_ReturnsCallsInOrder() throws IOException {
+		// Arrange
+		WorkloadRecorder recorder = new WorkloadRecorder(file);
+		EvaluationContext context = makeContext();
+		recorder.recordInitialize(null);
+		recorder.recordContextSet(context);
+		recorder.recordEvaluation("banner", context, new ProviderEvaluation<>("Hello", "on", "STATIC", null, null),
+				System.nanoTime(), 1500L);
+		recorder.recordEvaluation("checkout", context,
+				new ProviderEvaluation<>(false, null, "ERROR", ErrorCode.FLAG_NOT_FOUND, "missing"), System.nanoTime(), 20L);
+		recorder.flush();
+
+		// Act
+		List<WorkloadRecord> records = WorkloadReader.read(file);
+
+		// Assert
+		assertEquals(4, records.size());
+		assertEquals(WorkloadRecorder.Kind.INITIALIZE, records.get(0).kind);
+		assertNull(records.get(0).context);
+		assertEquals(WorkloadRecorder.Kind.CONTEXT_SET, records.get(1).kind);
+		assertEquals("visitor", records.get(1).context.getTargetingKey());
+		assertEquals(context.asMap(), records.get(1).context.asMap());
+		WorkloadRecord banner = records.get(2);
+		assertEquals(WorkloadRecorder.ValueType.STRING, banner.valueType);
+		assertEquals("banner", banner.flagKey);
+		assertEquals("on", banner.variant);
+		assertEquals(new Value.String("Hello"), banner.value);
+		assertEquals(1500L, banner.durationNanos);
+		assertSame(records.get(1).context, banner.context);
+		WorkloadRecord checkout = records.get(3);
+		assertEquals(WorkloadRecorder.ValueType.BOOLEAN, checkout.valueType);
+		assertEquals(ErrorCode.FLAG_NOT_FOUND.name(), checkout.errorCode);
+		assertTrue(checkout.offsetNanos >= banner.offsetNanos);
+	}
+
+	@Test
+	public void read_SeveralFlushes_ReturnsAllCalls() throws IOException {
+		// Arrange
+		WorkloadRecorder recorder = new WorkloadRecorder(file);
+		ProviderEvaluation<Value> evaluation = new ProviderEvaluation<>(
+				new Value.List(Arrays.<Value>asList(new Value.Integer(1), new Value.Double(2.5))), "on", "STATIC",
+				null, null);
+		recorder.recordEvaluation("layout", null, evaluation, System.nanoTime(), 10L);
+		recorder.flush();
+		recorder.recordEvaluation("layout", null, evaluation, System.nanoTime(), 10L);
+		recorder.flush();
+
+		// Act
+		List<WorkloadRecord> records = WorkloadReader.read(file);
+
+		// Assert
+		assertEquals(2, records.size());
+		assertEquals(evaluation.getValue(), records.get(1).value);
+		assertEquals("layout", records.get(1).flagKey);
+	}
+
+	@Test
+	public void read_TruncatedRecord_ReturnsCompleteRecords() throws IOException {
+		// Arrange
+		WorkloadRecorder recorder = new WorkloadRecorder(file);
+		recorder.recordContextSet(makeContext());
+		recorder.flush();
+		try (FileOutputStream output = new FileOutputStream(file, true)) {
+			// Kind of an evaluation without its content
+			output.write(WorkloadRecorder.Kind.EVALUATION.ordinal());
+		}
+
+		// Act
+		List<WorkloadRecord> records = WorkloadReader.read(file);
+
+		// Assert
+		assertEquals(1, records.size());
+		assertEquals(WorkloadRecorder.Kind.CONTEXT_SET, records.get(0).kind);
+	}
+
+	@Test
+	public void read_StringLongerThan64Kilobytes_ReturnsWholeString() throws IOException {
+		// Arrange
+		WorkloadRecorder recorder = new WorkloadRecorder(file);
+		String text = String.join("", Collections.nCopies(40000, "\u00e9t"));
+		recorder.recordEvaluation("banner", null, new ProviderEvaluation<>(text, "on", "STATIC", null, null),
+				System.nanoTime(), 10L);
+		recorder.flush();
+
+		// Act
+		List<WorkloadRecord> records = WorkloadReader.read(file);
+
+		// Assert
+		assertEquals(1, records.size());
+		assertEquals(new Value.String(text), records.get(0).value);
+	}
+
+	@Test
+	public void flush_WriteFailed_DropsFollowingRecords() throws IOException {
+		// Arrange
+		assertTrue(file.createNewFile());
+		WorkloadRecorder recorder = new WorkloadRecorder(new File(file, "workload.log"));
+		ProviderEvaluation<Boolean> evaluation = new ProviderEvaluation<>(true, "on", "STATIC", null, null);
+		recorder.recordEvaluation("checkout", null, evaluation, System.nanoTime(), 10L);
+
+		// Act & Assert
+		assertThrows(IOException.class, recorder::flush);
+		assertFalse(recorder.recordEvaluation("checkout", null, evaluation, System.nanoTime(), 10L));
+		assertDoesNotThrow(recorder::flush);
+	}
+}
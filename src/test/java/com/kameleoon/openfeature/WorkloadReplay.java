@@ -0,0 +1,238 @@
+package com.kameleoon.openfeature;
+
+import com.kameleoon.KameleoonException;
+import com.kameleoon.types.Variable;
+import com.kameleoon.types.Variation;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FeatureProvider;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * WorkloadReplay runs a workload log recorded with {@link KameleoonProviderConfig.Builder#recordWorkload(File)}
+ * against a provider and reports the throughput, the latency percentiles of the evaluations, the bytes allocated
+ * per call and the evaluations whose value differs from the recorded one. {@link #makeClient()} serves the
+ * recorded variations, so the workload is replayed without a device or the Kameleoon backend.
+ */
+final class WorkloadReplay {
+
+	private static final String DEFAULT_VARIABLE_KEY = "value";
+
+	private final List<WorkloadRecord> records;
+
+	WorkloadReplay(List<WorkloadRecord> records) {
+		this.records = records;
+	}
+
+	static WorkloadReplay read(File file) throws IOException {
+		return new WorkloadReplay(WorkloadReader.read(file));
+	}
+
+	/**
+	 * Makes a client which returns, for each flag, the variant and the variable values of the recorded
+	 * evaluations. Flags which were never resolved are not found.
+	 */
+	FeatureClient makeClient() {
+		Map<String, String> variants = new HashMap<>();
+		Map<String, Map<String, Variable>> variables = new HashMap<>();
+		for (WorkloadRecord record : records) {
+			if (record.kind != WorkloadRecorder.Kind.EVALUATION || record.errorCode != null || record.value == null) {
+				continue;
+			}
+			Map<String, Variable> flagVariables = variables.get(record.flagKey);
+			if (flagVariables == null) {
+				flagVariables = new LinkedHashMap<>();
+				variables.put(record.flagKey, flagVariables);
+				variants.put(record.flagKey, record.variant);
+			}
+			String variableKey = VariableResolver.getVariableKey(record.context);
+			if (variableKey == null) {
+				variableKey = DEFAULT_VARIABLE_KEY;
+			}
+			flagVariables.put(variableKey, makeVariable(variableKey, record));
+		}
+		Map<String, Variation> variations = new HashMap<>();
+		for (Map.Entry<String, Map<String, Variable>> flag : variables.entrySet()) {
+			variations.put(flag.getKey(), new Variation(variants.get(flag.getKey()), -1, -1, flag.getValue()));
+		}
+		return new FeatureClient() {
+			@Override
+			public Variation getVariation(String flagKey) throws KameleoonException {
+				Variation variation = variations.get(flagKey);
+				if (variation == null) {
+					throw new KameleoonException.FeatureNotFound("Feature flag '" + flagKey + "' wasn't recorded");
+				}
+				return variation;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+	}
+
+	private static Variable makeVariable(String variableKey, WorkloadRecord record) {
+		switch (record.valueType) {
+			case BOOLEAN:
+				return new Variable(variableKey, "BOOLEAN", record.value.asBoolean());
+			case INTEGER:
+				return new Variable(variableKey, "NUMBER", record.value.asInteger());
+			case DOUBLE:
+				return new Variable(variableKey, "NUMBER", record.value.asDouble());
+			case STRING:
+				return new Variable(variableKey, "STRING", record.value.asString());
+			default:
+				return new Variable(variableKey, "JSON", record.value);
+		}
+	}
+
+	/**
+	 * Replays the calls of the log in order, {@code iterations} times, on the calling thread.
+	 */
+	Report run(FeatureProvider provider, int iterations) {
+		int evaluationCount = 0;
+		for (WorkloadRecord record : records) {
+			if (record.kind == WorkloadRecorder.Kind.EVALUATION) {
+				evaluationCount++;
+			}
+		}
+		long[] latencies = new long[evaluationCount * iterations];
+		int evaluations = 0;
+		long mismatches = 0;
+		long allocatedBefore = getAllocatedBytes();
+		long begin = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			EvaluationContext previousContext = null;
+			for (WorkloadRecord record : records) {
+				switch (record.kind) {
+					case INITIALIZE:
+						provider.initialize(record.context);
+						previousContext = record.context;
+						break;
+					case CONTEXT_SET:
+						provider.onContextSet(previousContext, record.context);
+						previousContext = record.context;
+						break;
+					default:
+						long start = System.nanoTime();
+						Value value = evaluate(provider, record);
+						latencies[evaluations++] = System.nanoTime() - start;
+						if (!equals(record.value, value)) {
+							mismatches++;
+						}
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - begin;
+		long allocated = getAllocatedBytes() - allocatedBefore;
+		Arrays.sort(latencies);
+		return new Report((long) records.size() * iterations, elapsed, latencies,
+				allocatedBefore >= 0 ? allocated : -1, mismatches);
+	}
+
+	/**
+	 * Makes the recorded evaluation. The recorded value is the default value of evaluations which failed, so a
+	 * failure replays with the same value.
+	 */
+	private static Value evaluate(FeatureProvider provider, WorkloadRecord record) {
+		boolean failed = record.errorCode != null && record.value != null;
+		switch (record.valueType) {
+			case BOOLEAN:
+				ProviderEvaluation<Boolean> bool = provider.getBooleanEvaluation(record.flagKey,
+						failed ? record.value.asBoolean() : false, record.context);
+				return new Value.Boolean(bool.getValue());
+			case INTEGER:
+				ProviderEvaluation<Integer> integer = provider.getIntegerEvaluation(record.flagKey,
+						failed ? record.value.asInteger() : 0, record.context);
+				return new Value.Integer(integer.getValue());
+			case DOUBLE:
+				ProviderEvaluation<Double> number = provider.getDoubleEvaluation(record.flagKey,
+						failed ? record.value.asDouble() : 0.0, record.context);
+				return new Value.Double(number.getValue());
+			case STRING:
+				ProviderEvaluation<String> string = provider.getStringEvaluation(record.flagKey,
+						failed ? record.value.asString() : "", record.context);
+				return new Value.String(string.getValue());
+			default:
+				return provider.getObjectEvaluation(record.flagKey, failed ? record.value : Value.Null.INSTANCE,
+						record.context).getValue();
+		}
+	}
+
+	private static boolean equals(Value expected, Value actual) {
+		return expected == null ? actual == null || actual == Value.Null.INSTANCE : expected.equals(actual);
+	}
+
+	/**
+	 * Returns the bytes allocated by the current thread, {@code -1} if the JVM doesn't measure them.
+	 */
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+			if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+				return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
+	static final class Report {
+
+		final long calls;
+		final long elapsedNanos;
+		final long allocatedBytes;
+		final long mismatches;
+		private final long[] sortedLatencies;
+
+		Report(long calls, long elapsedNanos, long[] sortedLatencies, long allocatedBytes, long mismatches) {
+			this.calls = calls;
+			this.elapsedNanos = elapsedNanos;
+			this.sortedLatencies = sortedLatencies;
+			this.allocatedBytes = allocatedBytes;
+			this.mismatches = mismatches;
+		}
+
+		double getCallsPerSecond() {
+			return calls * 1e9 / elapsedNanos;
+		}
+
+		/**
+		 * Returns the bytes allocated per replayed call, {@code -1} if allocations are not measured.
+		 */
+		long getAllocatedBytesPerCall() {
+			return allocatedBytes >= 0 && calls > 0 ? allocatedBytes / calls : -1;
+		}
+
+		/**
+		 * Returns the latency percentile in nanoseconds of the evaluations.
+		 */
+		long getLatencyPercentile(double percentile) {
+			if (sortedLatencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+			return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))];
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+					"calls=%d calls/s=%.0f p50=%dns p99=%dns p99.9=%dns max=%dns bytes/call=%d mismatches=%d",
+					calls, getCallsPerSecond(), getLatencyPercentile(50), getLatencyPercentile(99),
+					getLatencyPercentile(99.9), getLatencyPercentile(100), getAllocatedBytesPerCall(), mismatches);
+		}
+	}
+}
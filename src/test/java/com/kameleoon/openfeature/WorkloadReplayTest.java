@@ -0,0 +1,109 @@
+package com.kameleoon.openfeature;
+
+import android.content.Context;
+import com.kameleoon.KameleoonClient;
+import com.kameleoon.openfeature.dto.types.DataType;
+import com.kameleoon.types.Variable;
+import com.kameleoon.types.Variation;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Records a workload with {@link KameleoonProvider} and replays it with {@link WorkloadReplay}.
+ */
+public class WorkloadReplayTest {
+
+	private final File file = new File(System.getProperty("java.io.tmpdir"),
+			"kameleoon_workload_" + System.nanoTime() + ".log");
+
+	@AfterEach
+	public void tearDown() {
+		file.delete();
+	}
+
+	private static KameleoonProvider makeProvider(FeatureClient featureClient, KameleoonProviderConfig config) {
+		KameleoonClient client = mock(KameleoonClient.class, withSettings().stubOnly());
+		return new KameleoonProvider("replaySiteCode", client, new KameleoonResolver(featureClient, config), config,
+				mock(Context.class, withSettings().stubOnly()));
+	}
+
+	private static FeatureClient makeRecordedClient() {
+		Map<String, Variable> variables = new HashMap<>();
+		variables.put("title", new Variable("title", "STRING", "Hello"));
+		variables.put("count", new Variable("count", "NUMBER", 5));
+		Variation variation = new Variation("on", -1, -1, variables);
+		return new FeatureClient() {
+			@Override
+			public Variation getVariation(String flagKey) {
+				return variation;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+	}
+
+	private static EvaluationContext withVariableKey(String variableKey) {
+		return new ImmutableContext("visitor",
+				Collections.<String, Value>singletonMap(DataType.VARIABLE_KEY.getValue(), new Value.String(variableKey)));
+	}
+
+	private List<WorkloadRecord> awaitRecords(int count) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		List<WorkloadRecord> records = Collections.emptyList();
+		while (System.nanoTime() < deadline) {
+			if (file.exists()) {
+				records = WorkloadReader.read(file);
+				if (records.size() >= count) {
+					break;
+				}
+			}
+			Thread.sleep(10);
+		}
+		return records;
+	}
+
+	@Test
+	public void run_RecordedWorkload_ReplaysSameResults() throws IOException, InterruptedException {
+		// Arrange
+		KameleoonProviderConfig config = new KameleoonProviderConfig.Builder().recordWorkload(file).build();
+		KameleoonProvider recorded = makeProvider(makeRecordedClient(), config);
+		EvaluationContext title = withVariableKey("title");
+		recorded.onContextSet(null, title);
+		recorded.getStringEvaluation("banner", "default", title);
+		recorded.getIntegerEvaluation("banner", 0, withVariableKey("count"));
+		recorded.getBooleanEvaluation("banner", true, withVariableKey("missing"));
+		recorded.shutdown();
+		List<WorkloadRecord> records = awaitRecords(4);
+		WorkloadReplay replay = new WorkloadReplay(records);
+		KameleoonProviderConfig replayConfig = KameleoonProviderConfig.defaultConfig();
+		KameleoonProvider replayed = makeProvider(replay.makeClient(), replayConfig);
+
+		// Act
+		WorkloadReplay.Report report = replay.run(replayed, 3);
+
+		// Assert
+		assertEquals(4, records.size());
+		assertEquals(12L, report.calls);
+		assertEquals(0L, report.mismatches);
+		assertTrue(report.getLatencyPercentile(100) >= report.getLatencyPercentile(50));
+	}
+}